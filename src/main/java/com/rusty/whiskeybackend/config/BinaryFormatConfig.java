@@ -0,0 +1,37 @@
+package com.rusty.whiskeybackend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 응답 형식 (Accept: application/x-jackson-smile 또는 application/cbor, 요청 본문도 같은 형식으로 받음)
+ * JSON과 같은 spring.jackson.* 설정을 쓰도록 Boot의 ObjectMapper 빌더로 만들어 기본 변환기를 대체
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /**
+     * Smile: 필드명에 더해 반복되는 짧은 문자열 값(브랜드/지역/태그 등)도 앞서 쓴 값을 참조로 씀
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+
+    /**
+     * CBOR: 표준 디코더와 호환되도록 stringref 확장 없이 씀
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
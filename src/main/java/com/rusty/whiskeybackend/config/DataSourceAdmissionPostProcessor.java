@@ -0,0 +1,55 @@
+package com.rusty.whiskeybackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * DataSource를 AdmissionControlDataSource로 감쌈 (가상 스레드 모드에서 기본으로 켜짐)
+ * 허가 수를 정하지 않으면(0) Hikari 풀 크기를 그대로 씀
+ */
+@Component
+@Slf4j
+public class DataSourceAdmissionPostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final Duration timeout;
+
+    public DataSourceAdmissionPostProcessor(
+            @Value("${whiskey.datasource.admission.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${whiskey.datasource.admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${whiskey.datasource.admission.timeout:PT30S}") Duration timeout) {
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource) {
+            return bean;
+        }
+        int permits = maxConcurrent > 0 ? maxConcurrent : poolSize(dataSource);
+        log.info("DB 동시 사용 제한: {} (허가 {}개, 대기 제한 {}ms)", beanName, permits, timeout.toMillis());
+        return new AdmissionControlDataSource(dataSource, permits, timeout);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("DataSource 풀 크기를 읽을 수 없습니다.", e);
+        }
+        throw new IllegalStateException("풀 크기를 알 수 없는 DataSource입니다. whiskey.datasource.admission.max-concurrent를 지정하세요: "
+                + dataSource.getClass().getName());
+    }
+}
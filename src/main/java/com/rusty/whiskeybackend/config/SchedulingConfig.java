@@ -0,0 +1,10 @@
+package com.rusty.whiskeybackend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // 주기 작업 활성화 (고아 이미지 정리 등)
+}
@@ -0,0 +1,27 @@
+package com.rusty.whiskeybackend.controller;
+
+import com.rusty.whiskeybackend.image.ImageFileServer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageFileServer imageFileServer;
+
+    /**
+     * 이미지 파일 제공 (sendfile 전송, Range/ETag 지원, 1년 캐시)
+     */
+    @GetMapping("/images/{filename:.+}")
+    public void getImage(@PathVariable String filename, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        imageFileServer.serve(filename, request, response);
+    }
+}
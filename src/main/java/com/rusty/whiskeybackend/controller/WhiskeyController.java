@@ -1,21 +1,48 @@
 package com.rusty.whiskeybackend.controller;
 
 import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyBatchDto;
+import com.rusty.whiskeybackend.dto.WhiskeyChangesDto;
+import com.rusty.whiskeybackend.dto.WhiskeyFacetsDto;
+import com.rusty.whiskeybackend.dto.WhiskeyField;
+import com.rusty.whiskeybackend.dto.WhiskeyFilterDto;
+import com.rusty.whiskeybackend.dto.WhiskeyImportResultDto;
 import com.rusty.whiskeybackend.dto.WhiskeyRequestDto;
 import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.dto.WhiskeySliceDto;
+import com.rusty.whiskeybackend.dto.WhiskeySuggestionDto;
+import com.rusty.whiskeybackend.dto.WhiskeyVersion;
+import com.rusty.whiskeybackend.exception.BadRequestException;
+import com.rusty.whiskeybackend.service.WhiskeyReadCoalescer;
 import com.rusty.whiskeybackend.service.WhiskeyService;
+import com.rusty.whiskeybackend.sync.WhiskeyChangeBroadcaster;
+import com.rusty.whiskeybackend.sync.WhiskeyChangeFeed;
+import com.rusty.whiskeybackend.transfer.WhiskeyExporter;
+import com.rusty.whiskeybackend.transfer.WhiskeyImporter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -23,27 +50,133 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class WhiskeyController {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_CHANGES_SIZE = 500;
+    private static final int MAX_BATCH_GET_SIZE = 200;
+
     private final WhiskeyService whiskeyService;
+    private final WhiskeyReadCoalescer whiskeyReadCoalescer;
+    private final WhiskeyImporter whiskeyImporter;
+    private final WhiskeyExporter whiskeyExporter;
+    private final WhiskeyChangeFeed whiskeyChangeFeed;
+    private final WhiskeyChangeBroadcaster whiskeyChangeBroadcaster;
 
     /**
      * 전체 위스키 목록 조회
+     * fields=summary 또는 fields=name,brand,...를 주면 해당 필드만 조회해 반환 (목록 엔드포인트 공통)
      */
     @GetMapping
-    public ResponseEntity<Page<WhiskeyResponseDto>> getAllWhiskeys(
+    public ResponseEntity<Page<?>> getAllWhiskeys(
             @RequestParam(required = false) WhiskeyCategory category,
             @RequestParam(required = false) String search,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<WhiskeyResponseDto> whiskeys = whiskeyService.findAll(category, search, pageable);
-        return ResponseEntity.ok(whiskeys);
+            @RequestParam(required = false) String fields,
+            @ModelAttribute WhiskeyFilterDto filter,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request) {
+        String eTag = whiskeyService.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (fields != null) {
+            return catalogResponse(eTag, whiskeyService.findAll(category, search, filter, pageable,
+                    WhiskeyField.parse(fields)));
+        }
+        Page<WhiskeyResponseDto> whiskeys = filter.isEmpty()
+                ? whiskeyReadCoalescer.findAll(category, search, pageable)
+                : whiskeyService.findAll(category, search, filter, pageable);
+        return catalogResponse(eTag, whiskeys);
+    }
+
+    /**
+     * 전체 위스키 목록 조회 (커서 기반, 무한 스크롤용, 다중 필터는 page/size 목록에서만 지원)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<WhiskeySliceDto<?>> scrollAllWhiskeys(
+            @RequestParam(required = false) WhiskeyCategory category,
+            @RequestParam(required = false) String search,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            @ModelAttribute WhiskeyFilterDto filter,
+            WebRequest request) {
+        requireNoFilter(filter);
+        String eTag = whiskeyService.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (fields != null) {
+            return catalogResponse(eTag, whiskeyService.scroll(category, search, cursor, scrollSize(size),
+                    WhiskeyField.parse(fields)));
+        }
+        WhiskeySliceDto<WhiskeyResponseDto> whiskeys = whiskeyService.scroll(category, search, cursor, scrollSize(size));
+        return catalogResponse(eTag, whiskeys);
+    }
+
+    /**
+     * 변경 피드 (since 토큰 이후 추가/수정/삭제된 위스키, 응답의 nextToken을 다음 요청의 since로 사용)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<WhiskeyChangesDto> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit) {
+        WhiskeyChangesDto changes = whiskeyChangeFeed.changes(since, Math.max(1, Math.min(limit, MAX_CHANGES_SIZE)));
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * 변경 알림 스트림 (SSE, 커밋된 생성/수정/삭제 id를 "whiskey" 이벤트로 전송)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        return whiskeyChangeBroadcaster.subscribe();
+    }
+
+    /**
+     * 여러 위스키 일괄 조회 (예: ?ids=3,1,2, 요청 순서대로 반환하고 없는 id는 missingIds로)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<WhiskeyBatchDto> getWhiskeys(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(whiskeyService.findBatch(batchIds(ids)));
+    }
+
+    /**
+     * 여러 위스키 일괄 조회 (본문: id 배열(JSON/CBOR/Smile), URL 길이 제한 없이)
+     */
+    @PostMapping(value = "/batch-get",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, "application/cbor", "application/x-jackson-smile"})
+    public ResponseEntity<WhiskeyBatchDto> batchGetWhiskeys(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(whiskeyService.findBatch(batchIds(ids)));
     }
 
     /**
      * 위스키 상세 조회
+     * If-None-Match가 맞으면 본문을 읽지 않고 버전 조회 한 번으로 304
+     * Last-Modified는 두지 않음 (썸네일 생성처럼 ETag에만 먼저 반영되는 변경을 If-Modified-Since가 놓치지 않도록)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<WhiskeyResponseDto> getWhiskey(@PathVariable Long id) {
-        WhiskeyResponseDto whiskey = whiskeyService.findById(id);
-        return ResponseEntity.ok(whiskey);
+    public ResponseEntity<WhiskeyResponseDto> getWhiskey(@PathVariable Long id, WebRequest request) {
+        WhiskeyVersion version = whiskeyService.findVersion(id);
+        String eTag = whiskeyService.eTag(version);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        WhiskeyResponseDto whiskey = whiskeyReadCoalescer.findById(id, version.updatedAt());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(eTag)
+                .body(whiskey);
+    }
+
+    /**
+     * 비슷한 위스키 조회 (플레이버 태그/특성/지역/페어링/도수 기준)
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<WhiskeyResponseDto>> getSimilarWhiskeys(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<WhiskeyResponseDto> whiskeys = whiskeyService.findSimilar(id, Math.max(1, Math.min(limit, 50)));
+        return ResponseEntity.ok(whiskeys);
     }
 
     /**
@@ -57,6 +190,45 @@ public class WhiskeyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(whiskey);
     }
 
+    /**
+     * 위스키 일괄 등록 (JSON 배열/NDJSON/CSV 본문을 스트리밍으로 읽어 배치 저장, 행마다 결과 반환)
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<WhiskeyImportResultDto> importWhiskeys(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        WhiskeyImportResultDto result;
+        if ("csv".equals(contentType.getSubtype())) {
+            Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+            result = whiskeyImporter.importCsv(new InputStreamReader(request.getInputStream(), charset));
+        } else {
+            result = whiskeyImporter.importJson(request.getInputStream());
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 위스키 전체 내보내기 (format=ndjson|csv, DB 커서에서 읽는 대로 응답 본문에 바로 씀)
+     */
+    @GetMapping("/export")
+    public void exportWhiskeys(@RequestParam(defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new BadRequestException("지원하지 않는 내보내기 형식입니다. (ndjson, csv)");
+        }
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(csv ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(csv ? "whiskeys.csv" : "whiskeys.ndjson")
+                .build()
+                .toString());
+        if (csv) {
+            whiskeyExporter.exportCsv(response.getOutputStream());
+        } else {
+            whiskeyExporter.exportNdjson(response.getOutputStream());
+        }
+    }
+
     /**
      * 위스키 수정
      */
@@ -81,7 +253,7 @@ public class WhiskeyController {
     /**
      * 이미지 업로드
      */
-    @PostMapping("/{id}/image")
+    @PostMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Map<String, String>> uploadImage(
             @PathVariable Long id,
             @RequestParam MultipartFile image) {
@@ -89,6 +261,18 @@ public class WhiskeyController {
         return ResponseEntity.ok(Map.of("imageDataUrl", imageUrl));
     }
 
+    /**
+     * 이미지 업로드 (요청 본문이 이미지 자체, 예: Content-Type: image/png)
+     * multipart 파싱 없이 본문을 저장소로 바로 흘려 씀
+     */
+    @PostMapping(value = "/{id}/image", consumes = "image/*")
+    public ResponseEntity<Map<String, String>> uploadRawImage(
+            @PathVariable Long id,
+            HttpServletRequest request) throws IOException {
+        String imageUrl = whiskeyService.uploadImage(id, request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok(Map.of("imageDataUrl", imageUrl));
+    }
+
     /**
      * 이미지 삭제
      */
@@ -102,24 +286,175 @@ public class WhiskeyController {
      * 카테고리별 조회
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<WhiskeyResponseDto>> getWhiskeysByCategory(
+    public ResponseEntity<Page<?>> getWhiskeysByCategory(
             @PathVariable WhiskeyCategory category,
             @RequestParam(required = false) String search,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<WhiskeyResponseDto> whiskeys = whiskeyService.findAll(category, search, pageable);
-        return ResponseEntity.ok(whiskeys);
+            @RequestParam(required = false) String fields,
+            @ModelAttribute WhiskeyFilterDto filter,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request) {
+        String eTag = whiskeyService.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (fields != null) {
+            return catalogResponse(eTag, whiskeyService.findAll(category, search, filter, pageable,
+                    WhiskeyField.parse(fields)));
+        }
+        Page<WhiskeyResponseDto> whiskeys = filter.isEmpty()
+                ? whiskeyReadCoalescer.findAll(category, search, pageable)
+                : whiskeyService.findAll(category, search, filter, pageable);
+        return catalogResponse(eTag, whiskeys);
+    }
+
+    /**
+     * 카테고리별 조회 (커서 기반)
+     */
+    @GetMapping(value = "/category/{category}", params = "cursor")
+    public ResponseEntity<WhiskeySliceDto<?>> scrollWhiskeysByCategory(
+            @PathVariable WhiskeyCategory category,
+            @RequestParam(required = false) String search,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            @ModelAttribute WhiskeyFilterDto filter,
+            WebRequest request) {
+        requireNoFilter(filter);
+        String eTag = whiskeyService.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (fields != null) {
+            return catalogResponse(eTag, whiskeyService.scroll(category, search, cursor, scrollSize(size),
+                    WhiskeyField.parse(fields)));
+        }
+        WhiskeySliceDto<WhiskeyResponseDto> whiskeys = whiskeyService.scroll(category, search, cursor, scrollSize(size));
+        return catalogResponse(eTag, whiskeys);
     }
 
     /**
      * 검색
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<WhiskeyResponseDto>> searchWhiskeys(
+    public ResponseEntity<Page<?>> searchWhiskeys(
             @RequestParam String q,
             @RequestParam(required = false) WhiskeyCategory category,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<WhiskeyResponseDto> whiskeys = whiskeyService.findAll(category, q, pageable);
-        return ResponseEntity.ok(whiskeys);
+            @RequestParam(required = false) String fields,
+            @ModelAttribute WhiskeyFilterDto filter,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request) {
+        String eTag = whiskeyService.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (fields != null) {
+            return catalogResponse(eTag, whiskeyService.findAll(category, q, filter, pageable,
+                    WhiskeyField.parse(fields)));
+        }
+        Page<WhiskeyResponseDto> whiskeys = filter.isEmpty()
+                ? whiskeyReadCoalescer.findAll(category, q, pageable)
+                : whiskeyService.findAll(category, q, filter, pageable);
+        return catalogResponse(eTag, whiskeys);
+    }
+
+    /**
+     * 검색 (커서 기반, 관련도 대신 최신순)
+     */
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<WhiskeySliceDto<?>> scrollSearchWhiskeys(
+            @RequestParam String q,
+            @RequestParam(required = false) WhiskeyCategory category,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            @ModelAttribute WhiskeyFilterDto filter,
+            WebRequest request) {
+        requireNoFilter(filter);
+        String eTag = whiskeyService.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (fields != null) {
+            return catalogResponse(eTag, whiskeyService.scroll(category, q, cursor, scrollSize(size),
+                    WhiskeyField.parse(fields)));
+        }
+        WhiskeySliceDto<WhiskeyResponseDto> whiskeys = whiskeyService.scroll(category, q, cursor, scrollSize(size));
+        return catalogResponse(eTag, whiskeys);
     }
 
+    /**
+     * 별점 상위 조회
+     */
+    @GetMapping("/top-rated")
+    public ResponseEntity<List<?>> getTopRated(
+            @RequestParam(required = false) WhiskeyCategory category,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        String eTag = whiskeyService.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (fields != null) {
+            return catalogResponse(eTag, whiskeyService.findTopRated(category, Math.max(1, Math.min(limit, 50)),
+                    WhiskeyField.parse(fields)));
+        }
+        List<WhiskeyResponseDto> whiskeys = whiskeyService.findTopRated(category, Math.max(1, Math.min(limit, 50)));
+        return catalogResponse(eTag, whiskeys);
+    }
+
+    /**
+     * 자동완성 (초성/자모 단위 접두어 검색)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<WhiskeySuggestionDto>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<WhiskeySuggestionDto> suggestions = whiskeyService.suggest(q, Math.min(limit, 20));
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * 카테고리/특성/플레이버 태그별 개수 (목록과 같은 필터 파라미터 사용)
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<WhiskeyFacetsDto> getFacets(
+            @RequestParam(required = false) WhiskeyCategory category,
+            @RequestParam(required = false) String search,
+            @ModelAttribute WhiskeyFilterDto filter) {
+        WhiskeyFacetsDto facets = whiskeyService.facets(category, search, filter);
+        return ResponseEntity.ok(facets);
+    }
+
+    /**
+     * 카탈로그 버전을 ETag로 붙인 목록 응답 (브라우저가 휴리스틱 캐시 없이 매번 재검증하도록 no-cache)
+     * JSON/Smile/CBOR는 Accept로 고르므로 Vary: Accept
+     */
+    private static <T> ResponseEntity<T> catalogResponse(String eTag, T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(eTag)
+                .body(body);
+    }
+
+    private static List<Long> batchIds(List<Long> ids) {
+        if (ids.size() > MAX_BATCH_GET_SIZE) {
+            throw new BadRequestException("한 번에 조회할 수 있는 위스키는 최대 " + MAX_BATCH_GET_SIZE + "개입니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 커서(keyset) 조회는 다중 필터를 지원하지 않으므로 조건을 무시하고 전체를 돌려주는 대신 400
+     */
+    private static void requireNoFilter(WhiskeyFilterDto filter) {
+        if (!filter.isEmpty()) {
+            throw new BadRequestException("커서 기반 조회에서는 다중 필터를 사용할 수 없습니다. page/size로 조회해주세요.");
+        }
+    }
+
+    private static int scrollSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+    }
 }
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,16 +15,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "whiskey")
+@Table(name = "whiskey", indexes = {
+        @Index(name = "idx_whiskey_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_whiskey_category_created_at_id", columnList = "category, created_at, id"),
+        @Index(name = "idx_whiskey_star_point_id", columnList = "star_point, id"),
+        @Index(name = "idx_whiskey_updated_at_id", columnList = "updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "whiskey")
 public class Whiskey {
 
+    // IDENTITY는 insert마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 시퀀스에서 50개씩 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "whiskey_seq")
+    @SequenceGenerator(name = "whiskey_seq", sequenceName = "whiskey_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -40,6 +51,7 @@ public class Whiskey {
     @ElementCollection
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "whiskey_sub_categories", joinColumns = @JoinColumn(name = "whiskey_id"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "whiskey-sub-categories")
     @Column(name = "sub_category")
     @Builder.Default
     private List<WhiskeySubCategory> subCategories = new ArrayList<>();  // 특성 (셰리, 피트, 버번)
@@ -53,7 +65,7 @@ public class Whiskey {
     private String region;                  // 생산지역
 
     @Column(length = 1000)
-    private String imageDataUrl;            // 이미지 URL (Base64 또는 파일 저장소 경로)
+    private String imageDataUrl;            // 이미지 URL (파일 저장소 경로, 예전 Base64 data URL은 ImageDataUrlMigrator가 이전)
 
     @Column(length = 2000)
     private String notes;                   // 테이스팅 노트
@@ -74,11 +86,13 @@ public class Whiskey {
 
     @ElementCollection
     @CollectionTable(name = "whiskey_pairings", joinColumns = @JoinColumn(name = "whiskey_id"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "whiskey-pairings")
     @Builder.Default
     private List<Pairing> pairings = new ArrayList<>();  // 페어링 추천
 
     @ElementCollection
     @CollectionTable(name = "whiskey_flavor_tags", joinColumns = @JoinColumn(name = "whiskey_id"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "whiskey-flavor-tags")
     @Column(name = "flavor_tag")
     @Builder.Default
     private List<String> flavorTags = new ArrayList<>();  // 테이스팅 프로파일 태그
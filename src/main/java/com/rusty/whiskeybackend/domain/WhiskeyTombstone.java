@@ -0,0 +1,30 @@
+package com.rusty.whiskeybackend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 위스키 기록 (변경 피드에서 삭제를 알리기 위해 보존 기간 동안만 유지)
+ */
+@Entity
+@Table(name = "whiskey_tombstone", indexes = {
+        @Index(name = "idx_whiskey_tombstone_deleted_at_id", columnList = "deleted_at, whiskey_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhiskeyTombstone {
+
+    @Id
+    @Column(name = "whiskey_id")
+    private Long whiskeyId;                 // 삭제된 위스키 id (시퀀스라 다시 쓰이지 않음)
+
+    @Column(nullable = false)
+    private Long deletedAt;                 // 삭제일시 (timestamp, updatedAt과 같은 기준)
+}
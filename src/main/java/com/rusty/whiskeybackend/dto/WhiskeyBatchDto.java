@@ -0,0 +1,18 @@
+package com.rusty.whiskeybackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 id 일괄 조회 응답 (요청 순서 유지, 없는 id는 오류 대신 missingIds로)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhiskeyBatchDto {
+    private List<WhiskeyResponseDto> whiskeys;
+    private List<Long> missingIds;
+}
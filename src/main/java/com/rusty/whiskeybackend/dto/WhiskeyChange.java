@@ -0,0 +1,7 @@
+package com.rusty.whiskeybackend.dto;
+
+/**
+ * 변경 피드 항목 (변경/삭제 시각과 위스키 id, 인덱스만으로 조회)
+ */
+public record WhiskeyChange(long id, long changedAt) {
+}
@@ -0,0 +1,50 @@
+package com.rusty.whiskeybackend.dto;
+
+import com.rusty.whiskeybackend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 변경 피드 위치 ((changedAt, id) 오름차순에서 마지막으로 받은 변경)
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ */
+public record WhiskeyChangeToken(long changedAt, long id) {
+
+    /**
+     * 처음부터 (모든 변경보다 앞)
+     */
+    public static final WhiskeyChangeToken FIRST = new WhiskeyChangeToken(0L, 0L);
+
+    public String encode() {
+        String raw = changedAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 문자열이면 처음부터
+     */
+    public static WhiskeyChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new WhiskeyChangeToken(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 동기화 토큰입니다: " + token);
+        }
+    }
+
+    /**
+     * 정렬 순서상 이 토큰보다 앞인지 여부
+     */
+    public boolean isBefore(WhiskeyChangeToken other) {
+        return changedAt < other.changedAt || (changedAt == other.changedAt && id < other.id);
+    }
+
+    public static WhiskeyChangeToken of(WhiskeyChange change) {
+        return new WhiskeyChangeToken(change.changedAt(), change.id());
+    }
+}
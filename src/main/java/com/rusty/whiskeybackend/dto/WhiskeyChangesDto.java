@@ -0,0 +1,23 @@
+package com.rusty.whiskeybackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 변경 피드 응답 (since 토큰 이후 추가/수정된 위스키와 삭제된 id)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WhiskeyChangesDto {
+    private boolean reset;                      // true면 토큰이 보존 기간보다 오래되어 처음부터 다시 받는 중 (로컬 목록을 비우고 적용)
+    private List<WhiskeyResponseDto> upserts;   // 추가/수정된 위스키 (변경 순)
+    private List<Long> deletedIds;              // 삭제된 위스키 id
+    private boolean hasMore;                    // true면 nextToken으로 바로 이어서 요청
+    private String nextToken;                   // 다음 동기화 때 since로 보낼 토큰
+}
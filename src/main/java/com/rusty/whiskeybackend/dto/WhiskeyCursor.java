@@ -0,0 +1,46 @@
+package com.rusty.whiskeybackend.dto;
+
+import com.rusty.whiskeybackend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 위치 (createdAt DESC, id DESC 정렬에서 마지막으로 받은 항목)
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ */
+public record WhiskeyCursor(long createdAt, long id) {
+
+    /**
+     * 첫 페이지 (모든 항목보다 앞)
+     */
+    public static final WhiskeyCursor FIRST = new WhiskeyCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = createdAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 문자열이면 첫 페이지
+     */
+    public static WhiskeyCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new WhiskeyCursor(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 정렬 순서상 이 커서보다 뒤에 오는 항목인지 여부
+     */
+    public boolean comesBefore(long otherCreatedAt, long otherId) {
+        return otherCreatedAt < createdAt || (otherCreatedAt == createdAt && otherId < id);
+    }
+}
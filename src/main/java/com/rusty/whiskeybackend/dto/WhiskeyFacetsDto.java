@@ -0,0 +1,19 @@
+package com.rusty.whiskeybackend.dto;
+
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhiskeyFacetsDto {
+    private long total;                                    // 현재 조건에 맞는 개수
+    private Map<WhiskeyCategory, Long> categories;         // 카테고리별 개수 (카테고리 조건 제외)
+    private Map<WhiskeySubCategory, Long> subCategories;   // 특성별 개수
+    private Map<String, Long> flavorTags;                  // 플레이버 태그별 개수 (많은 순)
+}
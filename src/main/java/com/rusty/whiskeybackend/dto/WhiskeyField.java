@@ -0,0 +1,89 @@
+package com.rusty.whiskeybackend.dto;
+
+import com.rusty.whiskeybackend.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 목록 응답에서 골라 받을 수 있는 필드 (fields=name,brand,... 또는 fields=summary)
+ * property는 WhiskeyResponseDto 필드명이자 Whiskey 엔티티 속성명
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WhiskeyField {
+    ID("id", Kind.COLUMN),
+    NAME("name", Kind.COLUMN),
+    ENGLISH_NAME("englishName", Kind.COLUMN),
+    BRAND("brand", Kind.COLUMN),
+    CATEGORY("category", Kind.COLUMN),
+    SUB_CATEGORIES("subCategories", Kind.COLLECTION),
+    ABV("abv", Kind.COLUMN),
+    VOLUME("volume", Kind.COLUMN),
+    NATION("nation", Kind.COLUMN),
+    REGION("region", Kind.COLUMN),
+    IMAGE_DATA_URL("imageDataUrl", Kind.COLUMN),
+    THUMBNAIL_URL("thumbnailUrl", Kind.IMAGE_VARIANT),
+    MEDIUM_IMAGE_URL("mediumImageUrl", Kind.IMAGE_VARIANT),
+    NOTES("notes", Kind.COLUMN),
+    NOSE("nose", Kind.COLUMN),
+    PALATE("palate", Kind.COLUMN),
+    FINISH("finish", Kind.COLUMN),
+    PERSONAL_NOTE("personalNote", Kind.COLUMN),
+    STAR_POINT("starPoint", Kind.COLUMN),
+    PAIRINGS("pairings", Kind.COLLECTION),
+    FLAVOR_TAGS("flavorTags", Kind.COLLECTION),
+    CREATED_AT("createdAt", Kind.COLUMN),
+    UPDATED_AT("updatedAt", Kind.COLUMN);
+
+    public enum Kind {
+        COLUMN,         // whiskey 테이블 컬럼
+        COLLECTION,     // 별도 테이블 (요청된 것만 id IN 쿼리로 조회)
+        IMAGE_VARIANT   // imageDataUrl로 계산 (DB 조회 없음)
+    }
+
+    /**
+     * 카드 목록용 요약 (fields=summary)
+     */
+    public static final Set<WhiskeyField> SUMMARY = Collections.unmodifiableSet(
+            EnumSet.of(ID, NAME, BRAND, CATEGORY, STAR_POINT, IMAGE_DATA_URL, THUMBNAIL_URL));
+
+    private static final String SUMMARY_NAME = "summary";
+
+    private final String property;
+    private final Kind kind;
+
+    /**
+     * 쉼표로 구분된 필드명 (summary는 요약 필드 묶음, id는 항상 포함)
+     */
+    public static Set<WhiskeyField> parse(String fields) {
+        Set<WhiskeyField> parsed = EnumSet.of(ID);
+        for (String token : fields.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (SUMMARY_NAME.equals(name)) {
+                parsed.addAll(SUMMARY);
+            } else {
+                parsed.add(of(name));
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * 필드명으로 찾기 (정렬 속성 검증에도 사용)
+     */
+    public static WhiskeyField of(String property) {
+        for (WhiskeyField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("알 수 없는 필드입니다: " + property);
+    }
+}
@@ -0,0 +1,46 @@
+package com.rusty.whiskeybackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 목록 다중 필터 조건
+ * 같은 파라미터를 여러 번(또는 ','로) 주면 AND, 한 값 안에서 '|'는 OR, '!'로 시작하면 NOT
+ * 예: subCategory=PEAT&subCategory=SHERRY&nation=스코틀랜드|아일랜드&flavorTag=스모키&flavorTag=!약품
+ * 도수/별점/용량은 최소·최대값(포함)으로 범위 지정 (예: minAbv=46&maxAbv=60&minStar=4)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WhiskeyFilterDto {
+
+    private List<String> categories;     // 종류 (category 파라미터와 달리 OR/NOT 가능)
+    private List<String> subCategory;    // 특성
+    private List<String> nation;         // 국가
+    private List<String> region;         // 생산지역
+    private List<String> flavorTag;      // 테이스팅 프로파일 태그
+
+    private Double minAbv;               // 최소 도수 (%)
+    private Double maxAbv;               // 최대 도수 (%)
+    private Double minStar;              // 최소 별점
+    private Double minVolume;            // 최소 용량 (ml)
+    private Double maxVolume;            // 최대 용량 (ml)
+
+    public boolean isEmpty() {
+        return isEmpty(categories) && isEmpty(subCategory) && isEmpty(nation)
+                && isEmpty(region) && isEmpty(flavorTag) && !hasRange();
+    }
+
+    public boolean hasRange() {
+        return minAbv != null || maxAbv != null || minStar != null || minVolume != null || maxVolume != null;
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+}
@@ -0,0 +1,24 @@
+package com.rusty.whiskeybackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과 (행마다 생성된 id 또는 실패 사유)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WhiskeyImportResultDto {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private long elapsedMillis;
+    private List<WhiskeyImportRowDto> rows;
+}
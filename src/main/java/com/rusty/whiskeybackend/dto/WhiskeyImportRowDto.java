@@ -0,0 +1,28 @@
+package com.rusty.whiskeybackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 등록 행 결과 (row는 1부터, 성공하면 id, 실패하면 error)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WhiskeyImportRowDto {
+
+    private int row;
+    private Long id;
+    private String error;
+
+    public static WhiskeyImportRowDto success(int row, Long id) {
+        return new WhiskeyImportRowDto(row, id, null);
+    }
+
+    public static WhiskeyImportRowDto failure(int row, String error) {
+        return new WhiskeyImportRowDto(row, null, error);
+    }
+}
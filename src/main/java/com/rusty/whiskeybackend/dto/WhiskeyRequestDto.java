@@ -36,7 +36,7 @@ public class WhiskeyRequestDto {
     private String nation;           // 국가
     private String region;           // 생산지역
 
-    private String imageDataUrl;     // 이미지 URL (Base64 또는 파일 경로)
+    private String imageDataUrl;     // 이미지 URL (파일 경로, Base64 data URL은 저장 시 파일로 변환)
     private String notes;            // 테이스팅 노트
 
     private String nose;             // 노즈
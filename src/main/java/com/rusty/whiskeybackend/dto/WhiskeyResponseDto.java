@@ -25,6 +25,8 @@ public class WhiskeyResponseDto {
     private String nation;
     private String region;
     private String imageDataUrl;
+    private String thumbnailUrl;        // 목록용 썸네일 (생성 전이면 null)
+    private String mediumImageUrl;      // 상세용 축소본 (생성 전이면 null)
     private String notes;
     private String nose;
     private String palate;
@@ -0,0 +1,20 @@
+package com.rusty.whiskeybackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 (전체 개수 없이 다음 페이지 커서만 제공)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhiskeySliceDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.rusty.whiskeybackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WhiskeySuggestionDto {
+    private Long id;
+    private String name;
+    private String englishName;
+    private String brand;
+}
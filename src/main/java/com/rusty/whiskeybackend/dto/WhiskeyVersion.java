@@ -0,0 +1,7 @@
+package com.rusty.whiskeybackend.dto;
+
+/**
+ * 상세 응답 검증용 버전 (엔티티/컬렉션을 읽지 않고 id로 수정 시각과 이미지 URL만 조회)
+ */
+public record WhiskeyVersion(long id, long updatedAt, String imageDataUrl) {
+}
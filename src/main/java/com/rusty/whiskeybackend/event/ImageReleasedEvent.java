@@ -0,0 +1,7 @@
+package com.rusty.whiskeybackend.event;
+
+/**
+ * 위스키가 이미지를 더 이상 참조하지 않게 된 이벤트 (트랜잭션 커밋 후 참조가 없으면 파일 삭제)
+ */
+public record ImageReleasedEvent(String imageUrl) {
+}
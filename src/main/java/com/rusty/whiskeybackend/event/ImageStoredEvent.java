@@ -0,0 +1,7 @@
+package com.rusty.whiskeybackend.event;
+
+/**
+ * 원본 이미지 저장 이벤트 (트랜잭션 커밋 후 썸네일 등 파생 이미지 생성)
+ */
+public record ImageStoredEvent(String imageUrl) {
+}
@@ -0,0 +1,7 @@
+package com.rusty.whiskeybackend.event;
+
+/**
+ * 파생 이미지(썸네일 등) 생성 완료 이벤트 (응답의 썸네일 URL이 바뀌므로 목록 ETag와 참조하는 위스키의 updatedAt 갱신)
+ */
+public record ImageVariantsCreatedEvent(String imageUrl) {
+}
@@ -0,0 +1,36 @@
+package com.rusty.whiskeybackend.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 위스키 생성/수정/삭제 이벤트 (트랜잭션 커밋 후 인메모리 인덱스 등에 반영)
+ */
+public record WhiskeyChangedEvent(ChangeType type, Collection<Long> ids) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static WhiskeyChangedEvent created(Long id) {
+        return new WhiskeyChangedEvent(ChangeType.CREATED, List.of(id));
+    }
+
+    public static WhiskeyChangedEvent created(Collection<Long> ids) {
+        return new WhiskeyChangedEvent(ChangeType.CREATED, List.copyOf(ids));
+    }
+
+    public static WhiskeyChangedEvent updated(Long id) {
+        return new WhiskeyChangedEvent(ChangeType.UPDATED, List.of(id));
+    }
+
+    public static WhiskeyChangedEvent updated(Collection<Long> ids) {
+        return new WhiskeyChangedEvent(ChangeType.UPDATED, List.copyOf(ids));
+    }
+
+    public static WhiskeyChangedEvent deleted(Long id) {
+        return new WhiskeyChangedEvent(ChangeType.DELETED, List.of(id));
+    }
+}
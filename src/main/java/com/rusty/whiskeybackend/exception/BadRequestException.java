@@ -0,0 +1,7 @@
+package com.rusty.whiskeybackend.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
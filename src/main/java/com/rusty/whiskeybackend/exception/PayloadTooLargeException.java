@@ -0,0 +1,7 @@
+package com.rusty.whiskeybackend.exception;
+
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
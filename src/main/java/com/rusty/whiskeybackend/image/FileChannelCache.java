@@ -0,0 +1,184 @@
+package com.rusty.whiskeybackend.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 파일 채널 LRU 캐시
+ * 이미지 파일은 내용이 바뀌지 않으므로 열린 채널과 크기를 재사용해 요청마다 open/stat를 반복하지 않음
+ * 빌려간(lease) 채널은 캐시에서 밀려나도 반납될 때 닫음
+ */
+@Component
+@Slf4j
+public class FileChannelCache {
+
+    private final int capacity;
+    private final Map<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // invalidate 호출 횟수 (잠금 밖에서 여는 동안 파일이 삭제되었는지 확인용)
+    private long invalidations;
+
+    public FileChannelCache(@Value("${whiskey.image.open-channels:256}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 빌려 쓴 채널, 사용 후 close()로 반납
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Entry entry;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public FileChannel channel() {
+            return entry.channel;
+        }
+
+        public long size() {
+            return entry.size;
+        }
+
+        @Override
+        public void close() {
+            release(entry);
+        }
+    }
+
+    private static final class Entry {
+        private final FileChannel channel;
+        private final long size;
+        private int leases;
+        private boolean evicted;
+
+        private Entry(FileChannel channel, long size) {
+            this.channel = channel;
+            this.size = size;
+        }
+    }
+
+    /**
+     * 채널 대여 (없으면 열어서 캐시에 넣음)
+     * 파일 열기는 잠금 밖에서 하므로 캐시에 없는 파일을 여는 동안 다른 요청이 기다리지 않음
+     * 같은 파일을 동시에 열었으면 먼저 넣은 채널을 쓰고, 여는 사이 무효화가 있었으면 이번 요청에만 쓰고 캐시에 넣지 않음
+     *
+     * @throws java.nio.file.NoSuchFileException 파일이 없을 때
+     */
+    public Lease acquire(Path path) throws IOException {
+        long generation;
+        synchronized (this) {
+            Entry entry = entries.get(path);
+            if (entry != null) {
+                entry.leases++;
+                return new Lease(entry);
+            }
+            generation = invalidations;
+        }
+
+        Entry opened = open(path);
+        List<Entry> closing = new ArrayList<>();
+        Lease lease;
+        synchronized (this) {
+            Entry entry = entries.get(path);
+            if (entry != null) {
+                closing.add(opened);
+            } else {
+                entry = opened;
+                if (generation == invalidations) {
+                    entries.put(path, entry);
+                } else {
+                    entry.evicted = true;
+                }
+            }
+            entry.leases++;
+            lease = new Lease(entry);
+            evictOverflow(closing);
+        }
+        closing.forEach(FileChannelCache::closeQuietly);
+        return lease;
+    }
+
+    /**
+     * 파일 삭제 시 캐시에서 제거 (열린 채널이 삭제된 파일을 계속 내보내지 않도록)
+     */
+    public void invalidate(Path path) {
+        Entry entry;
+        synchronized (this) {
+            invalidations++;
+            entry = entries.remove(path);
+            if (entry == null) {
+                return;
+            }
+            entry.evicted = true;
+            if (entry.leases > 0) {
+                return;
+            }
+        }
+        closeQuietly(entry);
+    }
+
+    /**
+     * 캐시에 열려 있는 채널 수
+     */
+    synchronized int openChannels() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    synchronized void closeAll() {
+        entries.values().forEach(FileChannelCache::closeQuietly);
+        entries.clear();
+    }
+
+    private void release(Entry entry) {
+        synchronized (this) {
+            if (--entry.leases > 0 || !entry.evicted) {
+                return;
+            }
+        }
+        closeQuietly(entry);
+    }
+
+    private void evictOverflow(List<Entry> closing) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            iterator.remove();
+            eldest.evicted = true;
+            if (eldest.leases == 0) {
+                closing.add(eldest);
+            }
+        }
+    }
+
+    private static Entry open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new Entry(channel, channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(Entry entry) {
+        try {
+            entry.channel.close();
+        } catch (IOException e) {
+            log.debug("파일 채널 닫기 실패: {}", e.getMessage());
+        }
+    }
+}
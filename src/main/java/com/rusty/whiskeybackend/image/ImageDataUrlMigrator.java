@@ -0,0 +1,102 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.event.ImageStoredEvent;
+import com.rusty.whiskeybackend.event.WhiskeyChangedEvent;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예전에 data URL(Base64)로 저장된 이미지를 파일 저장소로 이전
+ * id 순으로 batchSize개씩 끊어 트랜잭션마다 파일로 저장하고 짧은 URL로 교체 (목록 응답과 행 크기 축소)
+ * 새로 들어오는 data URL은 WhiskeyService가 저장 시 변환하므로, 남은 행이 없으면 이후 실행은 건너뜀
+ */
+@Component
+@Slf4j
+public class ImageDataUrlMigrator {
+
+    private final WhiskeyRepository whiskeyRepository;
+    private final ImageStore imageStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+
+    private volatile boolean done;
+
+    public ImageDataUrlMigrator(WhiskeyRepository whiskeyRepository, ImageStore imageStore,
+                                ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                @Value("${whiskey.image.migration.batch-size:50}") int batchSize) {
+        this.whiskeyRepository = whiskeyRepository;
+        this.imageStore = imageStore;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 기동 후 한 번, 이후 주기적으로 남은 행 확인 (이전한 행 수 반환)
+     */
+    @Scheduled(initialDelayString = "${whiskey.image.migration.initial-delay:PT30S}",
+            fixedDelayString = "${whiskey.image.migration.interval:PT6H}")
+    public int migrate() {
+        if (done) {
+            return 0;
+        }
+        int migrated = migrateAll();
+        // 변환할 수 없는 행만 남았으면 더 반복하지 않음
+        done = migrated == 0;
+        return migrated;
+    }
+
+    int migrateAll() {
+        long lastId = 0L;
+        int migrated = 0;
+        while (true) {
+            List<Long> ids = whiskeyRepository.findIdsWithInlineImage(lastId, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer count = transaction.execute(status -> migrateBatch(ids));
+            migrated += count != null ? count : 0;
+            lastId = ids.get(ids.size() - 1);
+        }
+        if (migrated > 0) {
+            log.info("data URL 이미지 이전: {}건", migrated);
+        }
+        return migrated;
+    }
+
+    private int migrateBatch(List<Long> ids) {
+        List<Long> migratedIds = new ArrayList<>();
+        for (Whiskey whiskey : whiskeyRepository.findAllById(ids)) {
+            String dataUrl = whiskey.getImageDataUrl();
+            if (!ImageStore.isDataUrl(dataUrl)) {
+                continue;
+            }
+            try {
+                String imageUrl = imageStore.storeDataUrl(dataUrl);
+                eventPublisher.publishEvent(new ImageStoredEvent(imageUrl));
+                whiskey.setImageDataUrl(imageUrl);
+                migratedIds.add(whiskey.getId());
+            } catch (IOException | RuntimeException e) {
+                // 잘렸거나 형식이 맞지 않는 데이터는 그대로 두고 다음 행 진행
+                log.warn("data URL 이미지 이전 실패: id={} ({})", whiskey.getId(), e.getMessage());
+            }
+        }
+        if (!migratedIds.isEmpty()) {
+            eventPublisher.publishEvent(WhiskeyChangedEvent.updated(migratedIds));
+        }
+        return migratedIds.size();
+    }
+}
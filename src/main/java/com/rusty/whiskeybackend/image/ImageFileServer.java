@@ -0,0 +1,190 @@
+package com.rusty.whiskeybackend.image;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 이미지 파일 전송
+ * Tomcat sendfile을 지원하면 파일 경로만 넘겨 커널에서 바로 소켓으로 보내고(zero-copy),
+ * 아니면 캐시된 FileChannel의 transferTo로 전송 (sendfile이면 채널을 열지 않음)
+ * 파일 내용이 바뀌지 않으므로 파일명을 강한 ETag로 사용하고 단일 Range 요청을 지원
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageFileServer {
+
+    static final String CACHE_CONTROL = "max-age=31536000, public, immutable";
+    // SVG는 스크립트를 담을 수 있으므로 직접 열어도 실행되지 않도록 제한
+    static final String SVG_CONTENT_SECURITY_POLICY = "default-src 'none'; style-src 'unsafe-inline'; sandbox";
+
+    // org.apache.coyote.Constants의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final FileChannelCache fileChannelCache;
+
+    /**
+     * 파일 하나를 응답으로 전송 (없거나 저장소 밖을 가리키면 404)
+     */
+    public void serve(String filename, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = ImageStore.resolve(ImageStore.URL_PREFIX + filename);
+        if (path == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        MediaType mediaType = MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        boolean compressible = isCompressible(mediaType);
+        boolean sendfile = Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED));
+
+        Source gzipSource = compressible && acceptsGzip(request)
+                ? open(path.resolveSibling(filename + GZIP_SUFFIX), sendfile) : null;
+        boolean gzip = gzipSource != null;
+        Source source = gzip ? gzipSource : open(path, sendfile);
+        if (source == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        try (source) {
+            String etag = "\"" + filename + (gzip ? GZIP_SUFFIX : "") + "\"";
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            if (compressible) {
+                response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+
+            if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            response.setContentType(mediaType.toString());
+            response.setHeader("X-Content-Type-Options", "nosniff");
+            if (compressible) {
+                response.setHeader("Content-Security-Policy", SVG_CONTENT_SECURITY_POLICY);
+            }
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+
+            long size = source.size();
+            long start = 0;
+            long end = size;   // exclusive
+            String range = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            List<HttpRange> ranges = range != null && (ifRange == null || ifRange.equals(etag)) ? parseRanges(range) : List.of();
+            // 여러 구간 요청은 무시하고 전체를 보냄 (RFC 9110에서 허용)
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size) + 1;
+                if (start >= size) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + size);
+            }
+            response.setContentLengthLong(end - start);
+
+            if ("HEAD".equals(request.getMethod()) || end == start) {
+                return;
+            }
+            if (sendfile) {
+                request.setAttribute(SENDFILE_FILENAME, source.path().toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end);
+                return;
+            }
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += source.lease().channel().transferTo(position, end - position, output);
+            }
+        }
+    }
+
+    /**
+     * 보낼 파일 (없으면 null)
+     * sendfile이면 Tomcat이 파일을 직접 열므로 크기만 확인하고 채널은 빌리지 않음
+     */
+    private Source open(Path path, boolean sendfile) throws IOException {
+        try {
+            if (sendfile) {
+                return new Source(path, Files.size(path), null);
+            }
+            FileChannelCache.Lease lease = fileChannelCache.acquire(path);
+            return new Source(path, lease.size(), lease);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private record Source(Path path, long size, FileChannelCache.Lease lease) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            if (lease != null) {
+                lease.close();
+            }
+        }
+    }
+
+    /**
+     * 문법이 틀린 Range 헤더는 없는 것으로 취급 (RFC 9110: 무시하고 전체 응답), 범위 밖이면 호출한 쪽에서 416
+     */
+    private static List<HttpRange> parseRanges(String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이미 압축된 래스터 이미지(JPEG/PNG/WebP 등)는 다시 압축해도 이득이 없으므로 SVG만 대상
+     */
+    static boolean isCompressible(MediaType mediaType) {
+        return "svg+xml".equals(mediaType.getSubtype());
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+}
@@ -0,0 +1,67 @@
+package com.rusty.whiskeybackend.image;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 업로드 허용 이미지 형식 (파일명/Content-Type 대신 앞부분 바이트로 판별)
+ */
+public enum ImageFormat {
+
+    JPEG("jpg"),
+    PNG("png"),
+    GIF("gif"),
+    WEBP("webp"),
+    SVG("svg");
+
+    // 판별에 사용하는 앞부분 길이 (SVG는 XML 선언/주석 뒤의 <svg 태그까지 봐야 함)
+    static final int HEADER_LENGTH = 512;
+
+    private final String extension;
+
+    ImageFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 앞부분 바이트로 형식 판별 (허용하지 않는 형식이면 null)
+     */
+    public static ImageFormat detect(byte[] header, int length) {
+        if (startsWith(header, length, 0xFF, 0xD8, 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(header, length, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return PNG;
+        }
+        if (startsWith(header, length, 'G', 'I', 'F', '8')) {
+            return GIF;
+        }
+        if (startsWith(header, length, 'R', 'I', 'F', 'F') && length >= 12
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return WEBP;
+        }
+        String text = new String(header, 0, length, StandardCharsets.UTF_8).stripLeading();
+        if (text.startsWith("﻿")) {
+            text = text.substring(1).stripLeading();
+        }
+        if ((text.startsWith("<svg") || text.startsWith("<?xml")) && text.contains("<svg")) {
+            return SVG;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int length, int... magic) {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((header[i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,392 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.event.ImageReleasedEvent;
+import com.rusty.whiskeybackend.event.ImageStoredEvent;
+import com.rusty.whiskeybackend.exception.BadRequestException;
+import com.rusty.whiskeybackend.exception.PayloadTooLargeException;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 내용 주소 기반 이미지 저장소
+ * 업로드를 받으면서 SHA-256과 형식(앞부분 바이트)을 확인해 "{해시}.{확장자}"로 저장하므로 같은 이미지는 한 번만 저장되고 URL은 바뀌지 않음
+ * 파일 삭제는 커밋(또는 저장한 트랜잭션의 롤백) 후 해당 URL을 참조하는 위스키가 하나도 없을 때만 수행 (참조 수는 DB 기준)
+ * 저장(중복 업로드 포함)한 파일은 그 참조를 담은 트랜잭션이 끝날 때까지 DB에 보이지 않으므로 삭제 대상에서 제외하고,
+ * 이 확인과 저장은 같은 해시 잠금 안에서 하므로 삭제 직전에 같은 내용이 다시 저장되어도 지운 파일을 가리키지 않음
+ * 그 사이 놓친 파일은 ImageSweeper가 주기적으로 정리
+ */
+@Component
+@Slf4j
+public class ImageStore {
+
+    public static final String UPLOAD_DIR = "uploads/images";
+    public static final String URL_PREFIX = "/images/";
+
+    static final String INCOMING_DIR = ".incoming";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final WhiskeyRepository whiskeyRepository;
+    private final FileChannelCache fileChannelCache;
+    private final ImageVariantRegistry variantRegistry;
+    private final long maxSize;
+    // 파일명 해시로 나눈 잠금 (같은 파일의 저장/삭제가 엇갈리지 않도록)
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    // 저장했지만 참조를 담은 트랜잭션이 아직 끝나지 않은 파일별 개수
+    private final Map<String, Integer> holds = new ConcurrentHashMap<>();
+
+    public ImageStore(WhiskeyRepository whiskeyRepository, FileChannelCache fileChannelCache,
+                      ImageVariantRegistry variantRegistry,
+                      @Value("${whiskey.image.max-size:10MB}") DataSize maxSize) {
+        this.whiskeyRepository = whiskeyRepository;
+        this.fileChannelCache = fileChannelCache;
+        this.variantRegistry = variantRegistry;
+        this.maxSize = maxSize.toBytes();
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    private record Inspection(String hash, ImageFormat format) {
+    }
+
+    /**
+     * 컨테이너가 multipart 파트를 받아 두는 위치(spring.servlet.multipart.location)이기도 하므로 기동 시 생성
+     */
+    @PostConstruct
+    void createIncomingDirectory() throws IOException {
+        Files.createDirectories(Paths.get(UPLOAD_DIR).resolve(INCOMING_DIR));
+    }
+
+    /**
+     * multipart 업로드 저장 후 URL 반환
+     * 컨테이너가 incoming 디렉토리에 받아 둔 파트를 같은 파일시스템 안에서 이동(rename)하고, 해시/형식은 한 번 읽으면서 확인
+     * (multipart 위치를 다른 파일시스템으로 바꾸면 transferTo가 복사가 됨)
+     */
+    public String store(MultipartFile image) throws IOException {
+        checkSize(image.getSize());
+        Path incoming = incomingFile();
+        try {
+            image.transferTo(incoming.toAbsolutePath().toFile());
+            Inspection inspection;
+            try (InputStream input = Files.newInputStream(incoming)) {
+                inspection = inspect(input, OutputStream.nullOutputStream());
+            }
+            return publish(incoming, inspection);
+        } finally {
+            Files.deleteIfExists(incoming);
+        }
+    }
+
+    /**
+     * 요청 본문을 그대로 받아 저장 후 URL 반환
+     * 한 번만 쓰면서 해시/형식/크기를 함께 확인하고, 형식이 맞지 않거나 크기를 넘으면 그 자리에서 중단
+     *
+     * @param contentLength 요청 헤더의 길이 (모르면 -1)
+     */
+    public String store(InputStream input, long contentLength) throws IOException {
+        checkSize(contentLength);
+        Path incoming = incomingFile();
+        try {
+            Inspection inspection;
+            try (OutputStream output = Files.newOutputStream(incoming)) {
+                inspection = inspect(input, output);
+            }
+            return publish(incoming, inspection);
+        } finally {
+            Files.deleteIfExists(incoming);
+        }
+    }
+
+    /**
+     * data URL(data:image/png;base64,...)을 디코딩하며 저장 후 URL 반환 (본문을 byte[]로 따로 복사하지 않음)
+     */
+    public String storeDataUrl(String dataUrl) throws IOException {
+        int comma = dataUrl.indexOf(',');
+        if (!isDataUrl(dataUrl) || comma < 0
+                || !dataUrl.substring(0, comma).toLowerCase(Locale.ROOT).endsWith(";base64")) {
+            throw new BadRequestException("이미지 data URL은 Base64 형식만 지원합니다.");
+        }
+        try (InputStream input = Base64.getMimeDecoder().wrap(new AsciiInputStream(dataUrl, comma + 1))) {
+            return store(input, -1);
+        }
+    }
+
+    /**
+     * 파일 저장소 경로가 아니라 이미지 자체를 담은 data URL인지 여부
+     */
+    public static boolean isDataUrl(String imageUrl) {
+        return imageUrl != null && imageUrl.regionMatches(true, 0, "data:", 0, 5);
+    }
+
+    /**
+     * 커밋 후 참조가 남지 않은 이미지 파일과 파생 이미지 삭제
+     */
+    @TransactionalEventListener
+    public void onImageReleased(ImageReleasedEvent event) {
+        deleteIfUnreferenced(event.imageUrl());
+    }
+
+    /**
+     * 저장한 트랜잭션이 커밋되면 참조가 DB에 보이므로 삭제 제외를 풀어 줌 (트랜잭션 밖이면 바로)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStoreCommitted(ImageStoredEvent event) {
+        release(event.imageUrl());
+    }
+
+    /**
+     * 저장 후 트랜잭션이 롤백되면 어떤 행도 가리키지 않게 된 새 파일 정리 (진행 중인 다른 업로드가 있으면 남김)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onImageStoreRolledBack(ImageStoredEvent event) {
+        release(event.imageUrl());
+        deleteIfUnreferenced(event.imageUrl());
+    }
+
+    /**
+     * 진행 중인 업로드가 없고 cutoff 이후 다시 저장되지 않았으면 삭제 (정리 작업용, 참조 여부는 호출한 쪽에서 확인)
+     */
+    boolean deleteIfIdle(Path original, Instant cutoff) {
+        String filename = original.getFileName().toString();
+        synchronized (lock(filename)) {
+            if (holds.containsKey(filename) || !isOlderThan(original, cutoff)) {
+                return false;
+            }
+            delete(original);
+            return true;
+        }
+    }
+
+    /**
+     * 원본과 gzip 사본, 파생 이미지 삭제 후 열린 채널 정리 (파생 이미지 URL은 삭제 전에 응답에서 뺌)
+     */
+    void delete(Path original) {
+        String filename = original.getFileName().toString();
+        synchronized (lock(filename)) {
+            variantRegistry.remove(filename);
+            List<Path> paths = new ArrayList<>();
+            paths.add(original);
+            paths.add(gzipPath(original));
+            for (ImageVariant variant : ImageVariant.values()) {
+                paths.add(original.resolveSibling(variant.filename(filename)));
+            }
+            for (Path path : paths) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("이미지 삭제 중 오류: {} ({})", path, e.getMessage());
+                }
+                fileChannelCache.invalidate(path);
+            }
+        }
+    }
+
+    /**
+     * 커밋/롤백 직후 콜백은 끝난 트랜잭션의 DB 연결을 그대로 사용 (REQUIRES_NEW로 연결을 하나 더 얻으면 동시 요청이 많을 때 풀이 고갈되어 서로를 기다리게 됨)
+     */
+    private void deleteIfUnreferenced(String imageUrl) {
+        Path path = resolve(imageUrl);
+        if (path == null) {
+            return;
+        }
+        String filename = path.getFileName().toString();
+        synchronized (lock(filename)) {
+            if (!holds.containsKey(filename) && whiskeyRepository.countByImageDataUrl(imageUrl) == 0) {
+                delete(path);
+            }
+        }
+    }
+
+    private void release(String imageUrl) {
+        Path path = resolve(imageUrl);
+        if (path != null) {
+            holds.computeIfPresent(path.getFileName().toString(), (filename, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private Object lock(String filename) {
+        return locks[Math.floorMod(filename.hashCode(), locks.length)];
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이미지 URL에 대응하는 저장 경로 (저장소 밖을 가리키거나 외부 URL이면 null)
+     */
+    static Path resolve(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String filename = imageUrl.substring(URL_PREFIX.length());
+        if (filename.isEmpty() || filename.contains("/") || filename.contains("\\") || filename.contains("..")) {
+            return null;
+        }
+        return Paths.get(UPLOAD_DIR).resolve(filename);
+    }
+
+    private Inspection inspect(InputStream input, OutputStream output) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[64 * 1024];
+        byte[] header = new byte[ImageFormat.HEADER_LENGTH];
+        int headerLength = 0;
+        ImageFormat format = null;
+        long total = 0;
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            total += read;
+            checkSize(total);
+            if (format == null) {
+                int copied = Math.min(read, header.length - headerLength);
+                System.arraycopy(buffer, 0, header, headerLength, copied);
+                headerLength += copied;
+                if (headerLength == header.length) {
+                    format = detect(header, headerLength);
+                }
+            }
+            digest.update(buffer, 0, read);
+            output.write(buffer, 0, read);
+        }
+        if (format == null) {
+            format = detect(header, headerLength);
+        }
+        return new Inspection(HexFormat.of().formatHex(digest.digest()), format);
+    }
+
+    /**
+     * 받은 파일을 "{해시}.{확장자}"로 이동 (같은 내용의 파일이 이미 있으면 새로 쓰지 않음)
+     * ImageStoredEvent의 트랜잭션이 끝날 때까지 삭제 대상에서 제외
+     */
+    private String publish(Path incoming, Inspection inspection) throws IOException {
+        String filename = inspection.hash() + "." + inspection.format().getExtension();
+        Path target = Paths.get(UPLOAD_DIR).resolve(filename);
+        synchronized (lock(filename)) {
+            if (!Files.exists(target)) {
+                Files.move(incoming, target, StandardCopyOption.ATOMIC_MOVE);
+                if (inspection.format() == ImageFormat.SVG) {
+                    writeGzip(target);
+                }
+            } else {
+                // 기존 파일을 다시 쓰게 되었으므로 정리 대상에서 빠지도록 수정 시각 갱신
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            }
+            holds.merge(filename, 1, Integer::sum);
+        }
+        return URL_PREFIX + filename;
+    }
+
+    private void checkSize(long size) {
+        if (size > maxSize) {
+            throw new PayloadTooLargeException("이미지는 " + DataSize.ofBytes(maxSize).toMegabytes() + "MB 이하만 업로드할 수 있습니다.");
+        }
+    }
+
+    private static ImageFormat detect(byte[] header, int length) {
+        ImageFormat format = ImageFormat.detect(header, length);
+        if (format == null) {
+            throw new BadRequestException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, WebP, SVG)");
+        }
+        return format;
+    }
+
+    private static Path incomingFile() throws IOException {
+        Path incomingPath = Paths.get(UPLOAD_DIR).resolve(INCOMING_DIR);
+        Files.createDirectories(incomingPath);
+        return incomingPath.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    /**
+     * 압축 효과가 있는 형식(SVG)은 gzip 사본을 미리 만들어 두고 요청 시 그대로 전송
+     */
+    private static void writeGzip(Path target) throws IOException {
+        Path temp = target.resolveSibling(INCOMING_DIR).resolve(UUID.randomUUID() + ".gz.tmp");
+        try {
+            try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                Files.copy(target, output);
+            }
+            Files.move(temp, gzipPath(target), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static Path gzipPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".gz");
+    }
+
+    /**
+     * 문자열 일부를 ASCII 바이트로 읽는 스트림 (Base64 본문용)
+     */
+    private static final class AsciiInputStream extends InputStream {
+
+        private final String text;
+        private int position;
+
+        private AsciiInputStream(String text, int position) {
+            this.text = text;
+            this.position = position;
+        }
+
+        @Override
+        public int read() {
+            return position < text.length() ? text.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= text.length()) {
+                return -1;
+            }
+            int count = Math.min(length, text.length() - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) text.charAt(position++);
+            }
+            return count;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
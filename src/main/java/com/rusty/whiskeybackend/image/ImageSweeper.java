@@ -0,0 +1,158 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 고아 이미지 정리
+ * uploads/images를 지연 순회하며 batchSize개씩 끊어 DB에서 참조 여부를 확인하고, 어떤 위스키도 가리키지 않는 파일을 삭제
+ * 업로드 중인 트랜잭션과 겹치지 않도록 최근 minAge 안에 쓰인(또는 중복 업로드로 다시 쓰인) 파일은 건너뜀
+ */
+@Component
+@Slf4j
+public class ImageSweeper {
+
+    private final ImageStore imageStore;
+    private final WhiskeyRepository whiskeyRepository;
+    private final int batchSize;
+    private final Duration minAge;
+
+    public ImageSweeper(ImageStore imageStore, WhiskeyRepository whiskeyRepository,
+                        @Value("${whiskey.image.sweep.batch-size:500}") int batchSize,
+                        @Value("${whiskey.image.sweep.min-age:PT1H}") Duration minAge) {
+        this.imageStore = imageStore;
+        this.whiskeyRepository = whiskeyRepository;
+        this.batchSize = batchSize;
+        this.minAge = minAge;
+    }
+
+    /**
+     * 주기적으로 전체 디렉토리 정리 (삭제한 원본 수 반환)
+     */
+    @Scheduled(initialDelayString = "${whiskey.image.sweep.initial-delay:PT10M}",
+            fixedDelayString = "${whiskey.image.sweep.interval:PT1H}")
+    public int sweep() {
+        return sweep(Paths.get(ImageStore.UPLOAD_DIR));
+    }
+
+    int sweep(Path uploadPath) {
+        if (!Files.isDirectory(uploadPath)) {
+            return 0;
+        }
+        Instant cutoff = Instant.now().minus(minAge);
+        int deleted = 0;
+        List<Path> batch = new ArrayList<>(batchSize);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(uploadPath)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && isOlderThan(file, cutoff)) {
+                    batch.add(file);
+                    if (batch.size() == batchSize) {
+                        deleted += reclaim(batch, cutoff);
+                        batch.clear();
+                    }
+                }
+            }
+            deleted += reclaim(batch, cutoff);
+            cleanIncoming(uploadPath.resolve(ImageStore.INCOMING_DIR), cutoff);
+        } catch (IOException e) {
+            log.warn("이미지 정리 중 오류: {}", e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("고아 이미지 정리: {}건", deleted);
+        }
+        return deleted;
+    }
+
+    private int reclaim(List<Path> batch, Instant cutoff) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Path> originals = new ArrayList<>();
+        Set<String> urls = new HashSet<>();
+        for (Path file : batch) {
+            String filename = file.getFileName().toString();
+            String base = ImageVariant.originalBase(filename);
+            if (filename.endsWith(".gz")) {
+                deleteIfOriginalMissing(file.resolveSibling(filename.substring(0, filename.length() - 3)));
+            } else if (base != null) {
+                deleteVariantIfOriginalMissing(file, base);
+            } else {
+                originals.add(file);
+                urls.add(ImageStore.URL_PREFIX + filename);
+            }
+        }
+
+        if (originals.isEmpty()) {
+            return 0;
+        }
+        Set<String> referenced = new HashSet<>(whiskeyRepository.findReferencedImageUrls(urls));
+        int deleted = 0;
+        for (Path original : originals) {
+            // 조회 후 그 사이 같은 내용이 다시 업로드되었으면 수정 시각이 갱신되어 있으므로 저장과 같은 잠금 안에서 한 번 더 확인
+            if (!referenced.contains(ImageStore.URL_PREFIX + original.getFileName())
+                    && imageStore.deleteIfIdle(original, cutoff)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private void deleteIfOriginalMissing(Path original) {
+        if (!Files.exists(original)) {
+            imageStore.delete(original);
+        }
+    }
+
+    private void deleteVariantIfOriginalMissing(Path variant, String base) {
+        try (DirectoryStream<Path> candidates = Files.newDirectoryStream(variant.getParent(), base + ".*")) {
+            for (Path candidate : candidates) {
+                String filename = candidate.getFileName().toString();
+                if (!filename.endsWith(".gz") && ImageVariant.originalBase(filename) == null) {
+                    return;
+                }
+            }
+            Files.deleteIfExists(variant);
+        } catch (IOException e) {
+            log.warn("파생 이미지 정리 중 오류: {} ({})", variant, e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 도중 프로세스가 죽어 남은 임시 파일 정리
+     */
+    private void cleanIncoming(Path incomingPath, Instant cutoff) throws IOException {
+        if (!Files.isDirectory(incomingPath)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(incomingPath)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && isOlderThan(file, cutoff)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.rusty.whiskeybackend.image;
+
+/**
+ * 원본 이미지로부터 생성하는 파생 이미지 규격 (긴 변 기준 축소, JPEG)
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 320, 0.75f),     // 목록 카드용
+    MEDIUM("w1024", 1024, 0.82f);       // 상세 화면용
+
+    private final String suffix;
+    private final int maxSize;
+    private final float quality;
+
+    ImageVariant(String suffix, int maxSize, float quality) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+        this.quality = quality;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public float getQuality() {
+        return quality;
+    }
+
+    /**
+     * 파생 이미지 파일명이면 원본 파일명의 확장자를 뺀 부분, 아니면 null (예: abc_thumb.jpg → abc)
+     */
+    public static String originalBase(String filename) {
+        for (ImageVariant variant : values()) {
+            String suffix = "_" + variant.suffix + ".jpg";
+            if (filename.endsWith(suffix) && filename.length() > suffix.length()) {
+                return filename.substring(0, filename.length() - suffix.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 원본 파일명에 대응하는 파생 이미지 파일명 (예: abc.png → abc_thumb.jpg)
+     */
+    public String filename(String originalFilename) {
+        int dot = originalFilename.lastIndexOf('.');
+        String base = dot > 0 ? originalFilename.substring(0, dot) : originalFilename;
+        return base + "_" + suffix + ".jpg";
+    }
+}
@@ -0,0 +1,209 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.event.ImageStoredEvent;
+import com.rusty.whiskeybackend.event.ImageVariantsCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 원본 이미지로 썸네일/축소본을 만드는 백그라운드 작업자
+ * 요청 스레드는 원본만 저장하고, 커밋 후 크기가 제한된 큐에 작업을 넣어 작업자 풀에서 처리
+ * 큐가 가득 차면 작업을 버리고 원본 URL만 제공 (요청 지연에 영향을 주지 않도록)
+ */
+@Component
+@Slf4j
+public class ImageVariantProcessor {
+
+    // 디코딩할 때 긴 변을 이 크기 가까이로 줄여 읽음 (가장 큰 파생 이미지 규격)
+    private static final int DECODE_SIZE = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getMaxSize)
+            .max()
+            .orElseThrow();
+
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+    private final ImageVariantRegistry variantRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImageVariantProcessor(@Value("${whiskey.image.worker-threads:2}") int workerThreads,
+                                 @Value("${whiskey.image.queue-capacity:100}") int queueCapacity,
+                                 @Value("${whiskey.image.max-pixels:50000000}") long maxPixels,
+                                 ImageVariantRegistry variantRegistry,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.maxPixels = maxPixels;
+        this.variantRegistry = variantRegistry;
+        this.eventPublisher = eventPublisher;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("이미지 처리 큐가 가득 차 파생 이미지 생성을 건너뜀"));
+    }
+
+    /**
+     * 원본 저장이 커밋되면 파생 이미지 생성 작업 등록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStored(ImageStoredEvent event) {
+        Path original = ImageStore.resolve(event.imageUrl());
+        if (original != null) {
+            executor.execute(() -> process(original));
+        }
+    }
+
+    /**
+     * 이미 생성된 파생 이미지 URL (아직 처리 중이거나 실패했으면 비어 있음, 파일을 확인하지 않고 생성 기록만 봄)
+     */
+    public Map<ImageVariant, String> variantUrls(String imageUrl) {
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        Path original = ImageStore.resolve(imageUrl);
+        if (original == null) {
+            return urls;
+        }
+        String filename = original.getFileName().toString();
+        if (variantRegistry.hasVariants(filename)) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                urls.put(variant, ImageStore.URL_PREFIX + variant.filename(filename));
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * 원본을 한 번 디코딩해 규격별로 축소 후 JPEG로 저장 (임시 파일에 쓴 뒤 이동해 쓰는 도중의 파일이 노출되지 않게 함)
+     * 같은 내용을 다시 올린 경우처럼 모든 규격이 이미 있으면 건너뜀
+     * 생성이 끝나면 응답의 썸네일 URL이 바뀌므로 이벤트로 알림 (참조하는 위스키의 updatedAt은 WhiskeyService가 갱신)
+     */
+    void process(Path original) {
+        String filename = original.getFileName().toString();
+        boolean done = true;
+        for (ImageVariant variant : ImageVariant.values()) {
+            done &= Files.exists(original.resolveSibling(variant.filename(filename)));
+        }
+        if (done) {
+            variantRegistry.add(filename);
+            return;
+        }
+        try {
+            BufferedImage source = decode(original);
+            if (source == null) {
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                Path target = original.resolveSibling(variant.filename(filename));
+                Path temp = original.resolveSibling(target.getFileName() + ".tmp");
+                writeJpeg(resize(source, variant.getMaxSize()), variant.getQuality(), temp);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            variantRegistry.add(filename);
+            eventPublisher.publishEvent(new ImageVariantsCreatedEvent(ImageStore.URL_PREFIX + filename));
+        } catch (IOException | RuntimeException e) {
+            log.warn("파생 이미지 생성 실패: {} ({})", original, e.getMessage());
+        }
+    }
+
+    /**
+     * 헤더의 가로/세로만 먼저 읽어 픽셀 수가 maxPixels를 넘으면 건너뛰고, 아니면 DECODE_SIZE 가까이로 건너뛰며 디코딩
+     * (해상도만 큰 압축 이미지를 그대로 디코딩해 메모리가 부족해지지 않도록)
+     */
+    private BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                log.debug("지원하지 않는 이미지 형식이라 파생 이미지 생성을 건너뜀: {}", original);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지 해상도가 너무 커서 파생 이미지 생성을 건너뜀: {} ({}x{})", original, width, height);
+                    return null;
+                }
+                int subsampling = Math.max(1, Math.max(width, height) / DECODE_SIZE);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG는 알파 채널이 없으므로 흰 배경 위에 그림
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static void writeJpeg(BufferedImage image, float quality, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Files.deleteIfExists(target);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.rusty.whiskeybackend.image;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파생 이미지가 모두 생성된 원본 파일명 목록
+ * 응답 변환/ETag 계산마다 파일 존재를 확인하지 않도록 기동 시 디렉토리를 한 번 읽고, 이후 생성/삭제 때 갱신
+ */
+@Component
+@Slf4j
+public class ImageVariantRegistry {
+
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void load() {
+        load(Paths.get(ImageStore.UPLOAD_DIR));
+    }
+
+    void load(Path uploadPath) {
+        if (!Files.isDirectory(uploadPath)) {
+            return;
+        }
+        Set<String> filenames = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(uploadPath)) {
+            for (Path file : files) {
+                filenames.add(file.getFileName().toString());
+            }
+        } catch (IOException e) {
+            log.warn("파생 이미지 목록을 읽지 못함: {}", e.getMessage());
+            return;
+        }
+        for (String filename : filenames) {
+            if (isOriginal(filename) && hasAllVariants(filename, filenames)) {
+                completed.add(filename);
+            }
+        }
+    }
+
+    /**
+     * 원본 파일명의 파생 이미지가 모두 있는지 여부
+     */
+    public boolean hasVariants(String filename) {
+        return completed.contains(filename);
+    }
+
+    void add(String filename) {
+        completed.add(filename);
+    }
+
+    void remove(String filename) {
+        completed.remove(filename);
+    }
+
+    private static boolean isOriginal(String filename) {
+        return !filename.endsWith(".gz") && !filename.endsWith(".tmp") && ImageVariant.originalBase(filename) == null;
+    }
+
+    private static boolean hasAllVariants(String filename, Set<String> filenames) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!filenames.contains(variant.filename(filename))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+
+import java.util.Collection;
+
+/**
+ * 위스키 카탈로그를 메모리에 유지하는 인덱스
+ * (CatalogIndexer가 기동 시 전체 적재 후 변경 이벤트마다 갱신, 컬렉션은 초기화된 상태로 전달됨)
+ */
+public interface CatalogIndex {
+
+    /**
+     * 위스키 추가 또는 갱신
+     */
+    void upsert(Whiskey whiskey);
+
+    /**
+     * 여러 위스키를 한 번에 추가 또는 갱신 (배치 적재용, 기본은 한 건씩 반영)
+     */
+    default void upsertAll(Collection<Whiskey> whiskeys) {
+        whiskeys.forEach(this::upsert);
+    }
+
+    /**
+     * 위스키 제거
+     */
+    void remove(Long id);
+
+    /**
+     * 전체 초기화
+     */
+    void clear();
+}
@@ -0,0 +1,171 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.event.WhiskeyChangedEvent;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인메모리 카탈로그 인덱스 적재 및 갱신
+ */
+@Component
+@Slf4j
+public class CatalogIndexer {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int LOCK_STRIPES = 64;
+
+    private final List<CatalogIndex> indexes;
+    private final WhiskeyRepository whiskeyRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CatalogVersion catalogVersion;
+
+    private final Object monitor = new Object();
+    private final Set<Long> pendingIds = new HashSet<>();
+    private final Lock[] idLocks = new Lock[LOCK_STRIPES];
+    private volatile boolean ready;
+
+    public CatalogIndexer(List<CatalogIndex> indexes, WhiskeyRepository whiskeyRepository,
+                          PlatformTransactionManager transactionManager, CatalogVersion catalogVersion) {
+        this.indexes = indexes;
+        this.whiskeyRepository = whiskeyRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.catalogVersion = catalogVersion;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            idLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 전체 적재가 끝나 인덱스로 조회할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기동 시 전체 카탈로그를 id 순으로 배치 적재
+     * (적재 중 발생한 변경은 모아 두었다가 적재 후 다시 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (monitor) {
+            ready = false;
+            pendingIds.clear();
+        }
+        indexes.forEach(CatalogIndex::clear);
+
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Whiskey> batch = readOnlyTransaction.execute(status -> whiskeyRepository.fetchCollections(
+                    whiskeyRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(BATCH_SIZE))));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            upsertAll(batch);
+            total += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        Set<Long> pending;
+        synchronized (monitor) {
+            pending = new HashSet<>(pendingIds);
+            pendingIds.clear();
+            ready = true;
+        }
+        if (!pending.isEmpty()) {
+            readOnlyTransaction.executeWithoutResult(status -> reload(pending));
+        }
+        catalogVersion.increment();
+        log.info("카탈로그 인덱스 적재 완료: {}건", total);
+    }
+
+    /**
+     * 커밋된 변경 사항을 인덱스에 반영한 뒤 카탈로그 버전을 올림 (적재 중에는 목록을 DB에서 읽으므로 바로 올림)
+     * 조회만 하므로 커밋 직후의 DB 연결을 그대로 사용 (REQUIRES_NEW로 연결을 하나 더 얻으면 동시 쓰기가 풀 크기를 넘을 때 교착)
+     */
+    @TransactionalEventListener
+    public void onWhiskeyChanged(WhiskeyChangedEvent event) {
+        synchronized (monitor) {
+            if (!ready) {
+                pendingIds.addAll(event.ids());
+                catalogVersion.increment();
+                return;
+            }
+        }
+        if (event.type() == WhiskeyChangedEvent.ChangeType.DELETED) {
+            withIdLocks(event.ids(), () -> event.ids().forEach(this::removeAll));
+        } else {
+            reload(event.ids());
+        }
+        catalogVersion.increment();
+    }
+
+    /**
+     * DB에서 다시 읽어 반영 (없어진 id는 인덱스에서 제거)
+     * 조회와 반영을 id 잠금 안에서 하므로, 같은 id의 다른 커밋이 먼저 반영됐다면 그 뒤의 상태를 읽음
+     * (잠금 밖에서 읽으면 삭제/수정보다 먼저 읽은 옛 행이 나중에 반영되어 인덱스에 남을 수 있음)
+     */
+    private void reload(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += BATCH_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + BATCH_SIZE, idList.size()));
+            withIdLocks(chunk, () -> {
+                Set<Long> missing = new HashSet<>(chunk);
+                List<Whiskey> whiskeys = whiskeyRepository.fetchCollections(whiskeyRepository.findAllById(chunk));
+                upsertAll(whiskeys);
+                whiskeys.forEach(whiskey -> missing.remove(whiskey.getId()));
+                missing.forEach(this::removeAll);
+            });
+        }
+    }
+
+    /**
+     * ids가 속한 잠금을 번호 순으로 모두 잡고 실행 (같은 id의 반영을 직렬화, 순서를 고정해 교착 방지)
+     */
+    private void withIdLocks(Collection<Long> ids, Runnable action) {
+        BitSet stripes = new BitSet(LOCK_STRIPES);
+        ids.forEach(id -> stripes.set(Math.floorMod(Long.hashCode(id), LOCK_STRIPES)));
+        List<Lock> locked = new ArrayList<>(stripes.cardinality());
+        try {
+            for (int stripe = stripes.nextSetBit(0); stripe >= 0; stripe = stripes.nextSetBit(stripe + 1)) {
+                idLocks[stripe].lock();
+                locked.add(idLocks[stripe]);
+            }
+            action.run();
+        } finally {
+            locked.forEach(Lock::unlock);
+        }
+    }
+
+    private void upsertAll(List<Whiskey> whiskeys) {
+        for (CatalogIndex index : indexes) {
+            index.upsertAll(whiskeys);
+        }
+    }
+
+    private void removeAll(Long id) {
+        for (CatalogIndex index : indexes) {
+            index.remove(id);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.event.ImageVariantsCreatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그 전체 버전 (목록 응답의 ETag)
+ * 커밋된 변경이 인덱스에 반영된 뒤, 그리고 파생 이미지가 생성된 뒤에 올라감
+ * 목록을 읽기 전에 값을 가져오면 응답보다 오래된 버전이 붙을 수는 있어도(다음 요청이 200) 더 새 버전이 붙지는 않음
+ * 인덱스처럼 노드마다 따로 유지하므로 재시작 후 같은 값이 다시 나오지 않게 기동 시각을 앞에 붙임
+ */
+@Component
+public class CatalogVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong counter = new AtomicLong();
+
+    public String current() {
+        return epoch + "-" + generation();
+    }
+
+    /**
+     * 이 노드 안에서만 의미 있는 변경 횟수 (진행 중인 조회를 공유해도 되는지 판단할 때 사용)
+     */
+    public long generation() {
+        return counter.get();
+    }
+
+    public void increment() {
+        counter.incrementAndGet();
+    }
+
+    @EventListener
+    public void onImageVariantsCreated(ImageVariantsCreatedEvent event) {
+        increment();
+    }
+}
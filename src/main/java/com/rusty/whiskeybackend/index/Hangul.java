@@ -0,0 +1,93 @@
+package com.rusty.whiskeybackend.index;
+
+/**
+ * 한글 자모 분해 및 초성 추출
+ * 겹받침/겹모음까지 기본 자모로 풀어서 입력 중인 음절("글레", "달ㄱ")도 접두어로 매칭되게 함
+ */
+final class Hangul {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 ㄱ(0x3131) ~ ㅣ(0x3163) 중 겹자모를 기본 자모로 분해
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private Hangul() {
+    }
+
+    /**
+     * 자모 단위로 분해 (예: "글렌" → "ㄱㅡㄹㄹㅔㄴ"), 한글이 아닌 문자는 그대로 유지
+     */
+    static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                sb.append(compound >= 0 ? COMPOUND_JAMO_PARTS[compound] : String.valueOf(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성만 추출 (예: "글렌리벳" → "ㄱㄹㄹㅂ"), 한글이 아닌 문자는 그대로 유지
+     */
+    static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)] : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 자음(호환 자모)으로만 이루어진 초성 검색어인지 여부
+     */
+    static boolean isChosungQuery(String text) {
+        return !text.isEmpty() && leadingConsonants(text) == text.length();
+    }
+
+    /**
+     * 앞에서부터 한글 자음(호환 자모)이 이어지는 글자 수
+     */
+    static int leadingConsonants(String text) {
+        int length = 0;
+        while (length < text.length() && text.charAt(length) >= 'ㄱ' && text.charAt(length) <= 'ㅎ') {
+            length++;
+        }
+        return length;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
@@ -0,0 +1,29 @@
+package com.rusty.whiskeybackend.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색용 문자열 정규화 (NFC 결합, 소문자, 공백 제거)
+ * 예: "더 글렌리벳" → "더글렌리벳", "Glen Livet" → "glenlivet"
+ */
+public final class SearchText {
+
+    private SearchText() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,144 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리/특성/플레이버 태그별 개수를 쓰기 시점에 증감시켜 유지하는 패싯 카운터
+ * 검색어가 없으면 카운터를 그대로 반환하고, 검색어가 있으면 검색 결과 id만 순회해 집계
+ */
+@Component
+public class WhiskeyFacetIndex implements CatalogIndex {
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<WhiskeyCategory, Long> categoryCounts = new EnumMap<>(WhiskeyCategory.class);
+    private final Counts allCounts = new Counts();
+    private final Map<WhiskeyCategory, Counts> countsByCategory = new EnumMap<>(WhiskeyCategory.class);
+
+    /**
+     * 패싯 집계 결과
+     * categories는 다른 카테고리 탭의 개수도 보여줄 수 있도록 카테고리 조건 없이 집계
+     */
+    public record Facets(long total,
+                         Map<WhiskeyCategory, Long> categories,
+                         Map<WhiskeySubCategory, Long> subCategories,
+                         Map<String, Long> flavorTags) {
+    }
+
+    private record Document(WhiskeyCategory category, List<WhiskeySubCategory> subCategories, List<String> flavorTags) {
+    }
+
+    private static final class Counts {
+        private final Map<WhiskeySubCategory, Long> subCategories = new EnumMap<>(WhiskeySubCategory.class);
+        private final Map<String, Long> flavorTags = new HashMap<>();
+
+        void add(Document document, long delta) {
+            document.subCategories().forEach(sub -> increment(subCategories, sub, delta));
+            document.flavorTags().forEach(tag -> increment(flavorTags, tag, delta));
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Whiskey whiskey) {
+        Document document = new Document(
+                whiskey.getCategory(),
+                whiskey.getSubCategories().stream().distinct().toList(),
+                whiskey.getFlavorTags().stream().distinct().toList());
+
+        Document previous = documents.put(whiskey.getId(), document);
+        if (previous != null) {
+            count(previous, -1);
+        }
+        count(document, 1);
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        Document previous = documents.remove(id);
+        if (previous != null) {
+            count(previous, -1);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        documents.clear();
+        categoryCounts.clear();
+        allCounts.subCategories.clear();
+        allCounts.flavorTags.clear();
+        countsByCategory.clear();
+    }
+
+    /**
+     * 전체(또는 카테고리) 패싯 (유지 중인 카운터를 복사만 함)
+     */
+    public synchronized Facets facets(WhiskeyCategory category) {
+        Counts counts = category == null ? allCounts : countsByCategory.getOrDefault(category, new Counts());
+        long total = category == null ? documents.size() : categoryCounts.getOrDefault(category, 0L);
+        return toFacets(total, categoryCounts, counts);
+    }
+
+    /**
+     * 검색 결과 id 집합에 대한 패싯
+     */
+    public synchronized Facets facets(WhiskeyCategory category, Collection<Long> ids) {
+        Map<WhiskeyCategory, Long> categories = new EnumMap<>(WhiskeyCategory.class);
+        Counts counts = new Counts();
+        long total = 0;
+        for (Long id : ids) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            increment(categories, document.category(), 1);
+            if (category == null || document.category() == category) {
+                counts.add(document, 1);
+                total++;
+            }
+        }
+        return toFacets(total, categories, counts);
+    }
+
+    private void count(Document document, long delta) {
+        increment(categoryCounts, document.category(), delta);
+        allCounts.add(document, delta);
+        countsByCategory.computeIfAbsent(document.category(), key -> new Counts()).add(document, delta);
+    }
+
+    private static Facets toFacets(long total, Map<WhiskeyCategory, Long> categoryCounts, Counts counts) {
+        Map<WhiskeyCategory, Long> categories = new EnumMap<>(WhiskeyCategory.class);
+        for (WhiskeyCategory category : WhiskeyCategory.values()) {
+            categories.put(category, categoryCounts.getOrDefault(category, 0L));
+        }
+        Map<WhiskeySubCategory, Long> subCategories = new EnumMap<>(WhiskeySubCategory.class);
+        for (WhiskeySubCategory subCategory : WhiskeySubCategory.values()) {
+            subCategories.put(subCategory, counts.subCategories.getOrDefault(subCategory, 0L));
+        }
+        Map<String, Long> flavorTags = new LinkedHashMap<>();
+        counts.flavorTags.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> flavorTags.put(entry.getKey(), entry.getValue()));
+        return new Facets(total, categories, subCategories, flavorTags);
+    }
+
+    private static <K> void increment(Map<K, Long> counts, K key, long delta) {
+        if (key == null) {
+            return;
+        }
+        long value = counts.getOrDefault(key, 0L) + delta;
+        if (value <= 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리/특성/국가/지역/플레이버 태그 값마다 압축 비트맵(RoaringBitmap)을 두고 AND/OR/NOT으로 조합하는 필터 인덱스
+ * 위스키마다 등록 순서대로 int 문서 번호를 부여하므로 문서 번호 역순이 최신 등록순
+ */
+@Component
+public class WhiskeyFilterIndex implements CatalogIndex {
+
+    /**
+     * 필터 대상 속성
+     */
+    public enum Dimension {
+        CATEGORY,
+        SUB_CATEGORY,
+        NATION,
+        REGION,
+        FLAVOR_TAG
+    }
+
+    /**
+     * 필터 결과 (전체 개수와 요청한 구간의 id)
+     */
+    public record Result(long total, List<Long> ids) {
+    }
+
+    private record Document(long id, Map<Dimension, List<String>> values) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docsById = new HashMap<>();
+    private final Map<Dimension, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(Dimension.class);
+    private final RoaringBitmap live = new RoaringBitmap();
+    private Document[] documents = new Document[1024];
+    private int nextDoc;
+
+    public WhiskeyFilterIndex() {
+        for (Dimension dimension : Dimension.values()) {
+            bitmaps.put(dimension, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void upsert(Whiskey whiskey) {
+        Map<Dimension, List<String>> values = new EnumMap<>(Dimension.class);
+        values.put(Dimension.CATEGORY, keys(whiskey.getCategory() != null ? List.of(whiskey.getCategory().name()) : List.of()));
+        values.put(Dimension.SUB_CATEGORY, keys(whiskey.getSubCategories().stream().map(WhiskeySubCategory::name).toList()));
+        values.put(Dimension.NATION, keys(whiskey.getNation() != null ? List.of(whiskey.getNation()) : List.of()));
+        values.put(Dimension.REGION, keys(whiskey.getRegion() != null ? List.of(whiskey.getRegion()) : List.of()));
+        values.put(Dimension.FLAVOR_TAG, keys(whiskey.getFlavorTags()));
+
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsById.get(whiskey.getId());
+            if (doc != null) {
+                unindex(doc);
+            } else {
+                doc = nextDoc++;
+                docsById.put(whiskey.getId(), doc);
+                if (doc == documents.length) {
+                    documents = Arrays.copyOf(documents, documents.length * 2);
+                }
+            }
+            Document document = new Document(whiskey.getId(), values);
+            documents[doc] = document;
+            for (Map.Entry<Dimension, List<String>> entry : values.entrySet()) {
+                Map<String, RoaringBitmap> byValue = bitmaps.get(entry.getKey());
+                for (String value : entry.getValue()) {
+                    byValue.computeIfAbsent(value, key -> new RoaringBitmap()).add(doc);
+                }
+            }
+            live.add(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsById.remove(id);
+            if (doc != null) {
+                unindex(doc);
+                documents[doc] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docsById.clear();
+            bitmaps.values().forEach(Map::clear);
+            live.clear();
+            documents = new Document[1024];
+            nextDoc = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건 조합 후 최신 등록순으로 offset부터 limit개의 id 반환
+     *
+     * @param restrictTo 검색 결과 등으로 대상을 제한할 id (null이면 전체)
+     * @param clauses    속성별 조건 목록, 조건끼리는 AND
+     *                   한 조건 안에서 '|'로 구분한 값은 OR, '!'로 시작하면 NOT (예: "PEAT", "스코틀랜드|아일랜드", "!약품")
+     */
+    public Result filter(Collection<Long> restrictTo, Map<Dimension, List<String>> clauses, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = evaluate(restrictTo, clauses);
+            List<Long> ids = new ArrayList<>(limit);
+            IntIterator docs = matched.getReverseIntIterator();
+            for (long skipped = 0; skipped < offset && docs.hasNext(); skipped++) {
+                docs.next();
+            }
+            while (ids.size() < limit && docs.hasNext()) {
+                ids.add(documents[docs.next()].id());
+            }
+            return new Result(matched.getLongCardinality(), ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건 조합에 맞는 id 전체 (순서 없음, 패싯 집계용)
+     */
+    public List<Long> matchingIds(Collection<Long> restrictTo, Map<Dimension, List<String>> clauses) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = evaluate(restrictTo, clauses);
+            List<Long> ids = new ArrayList<>(matched.getCardinality());
+            matched.forEach((int doc) -> ids.add(documents[doc].id()));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap evaluate(Collection<Long> restrictTo, Map<Dimension, List<String>> clauses) {
+        RoaringBitmap result = restrictTo != null ? toDocs(restrictTo) : live.clone();
+        for (Map.Entry<Dimension, List<String>> entry : clauses.entrySet()) {
+            Map<String, RoaringBitmap> byValue = bitmaps.get(entry.getKey());
+            for (String clause : entry.getValue()) {
+                if (clause == null || clause.isBlank()) {
+                    continue;
+                }
+                boolean negated = clause.startsWith("!");
+                RoaringBitmap any = new RoaringBitmap();
+                for (String value : (negated ? clause.substring(1) : clause).split("\\|")) {
+                    RoaringBitmap bitmap = byValue.get(key(value));
+                    if (bitmap != null) {
+                        any.or(bitmap);
+                    }
+                }
+                if (negated) {
+                    result.andNot(any);
+                } else {
+                    result.and(any);
+                }
+            }
+        }
+        return result;
+    }
+
+    private RoaringBitmap toDocs(Collection<Long> ids) {
+        RoaringBitmap docs = new RoaringBitmap();
+        for (Long id : ids) {
+            Integer doc = docsById.get(id);
+            if (doc != null) {
+                docs.add(doc);
+            }
+        }
+        return docs;
+    }
+
+    private void unindex(int doc) {
+        Document previous = documents[doc];
+        if (previous == null) {
+            return;
+        }
+        for (Map.Entry<Dimension, List<String>> entry : previous.values().entrySet()) {
+            Map<String, RoaringBitmap> byValue = bitmaps.get(entry.getKey());
+            for (String value : entry.getValue()) {
+                RoaringBitmap bitmap = byValue.get(value);
+                if (bitmap != null) {
+                    bitmap.remove(doc);
+                    if (bitmap.isEmpty()) {
+                        byValue.remove(value);
+                    }
+                }
+            }
+        }
+        live.remove(doc);
+    }
+
+    private static List<String> keys(List<String> values) {
+        return values.stream().filter(value -> value != null && !value.isBlank()).map(WhiskeyFilterIndex::key).distinct().toList();
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,407 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 도수/용량/별점 범위 조회용 정렬 배열 인덱스
+ * 속성마다 (값, id) 순으로 정렬한 double[]/long[] 쌍을 유지하고 이진 탐색으로 범위 경계를 찾음
+ * 값이 없는(null) 위스키는 해당 속성 인덱스에 넣지 않으므로 범위 조건에서 제외됨
+ */
+@Component
+public class WhiskeyRangeIndex implements CatalogIndex {
+
+    /**
+     * 범위 조회 대상 속성
+     */
+    public enum Attribute {
+        ABV,
+        VOLUME,
+        STAR_POINT
+    }
+
+    /**
+     * 범위 조건 (min, max 포함, null이면 해당 방향 제한 없음)
+     */
+    public record Range(Double min, Double max) {
+
+        public boolean isUnbounded() {
+            return min == null && max == null;
+        }
+
+        boolean contains(double value) {
+            return !Double.isNaN(value) && (min == null || value >= min) && (max == null || value <= max);
+        }
+    }
+
+    private record Document(WhiskeyCategory category, double[] values) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<Attribute, SortedColumn> columns = new EnumMap<>(Attribute.class);
+
+    public WhiskeyRangeIndex() {
+        for (Attribute attribute : Attribute.values()) {
+            columns.put(attribute, new SortedColumn());
+        }
+    }
+
+    @Override
+    public void upsert(Whiskey whiskey) {
+        double[] values = valuesOf(whiskey);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(whiskey.getId(), new Document(whiskey.getCategory(), values));
+            for (Attribute attribute : Attribute.values()) {
+                SortedColumn column = columns.get(attribute);
+                double value = values[attribute.ordinal()];
+                if (previous != null) {
+                    double old = previous.values()[attribute.ordinal()];
+                    if (Double.compare(old, value) == 0) {
+                        continue;
+                    }
+                    column.remove(old, whiskey.getId());
+                }
+                column.insert(value, whiskey.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 배치 추가/갱신 (속성마다 바뀐 항목만 모아 정렬한 뒤 기존 배열과 한 번에 병합, 건마다 배열을 밀지 않음)
+     */
+    @Override
+    public void upsertAll(Collection<Whiskey> whiskeys) {
+        Map<Attribute, SortedRun> additions = new EnumMap<>(Attribute.class);
+        Map<Attribute, Set<Long>> removals = new EnumMap<>(Attribute.class);
+        for (Attribute attribute : Attribute.values()) {
+            additions.put(attribute, new SortedRun(whiskeys.size()));
+            removals.put(attribute, new HashSet<>());
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Whiskey whiskey : whiskeys) {
+                double[] values = valuesOf(whiskey);
+                Document previous = documents.put(whiskey.getId(), new Document(whiskey.getCategory(), values));
+                for (Attribute attribute : Attribute.values()) {
+                    double value = values[attribute.ordinal()];
+                    if (previous != null) {
+                        if (Double.compare(previous.values()[attribute.ordinal()], value) == 0) {
+                            continue;
+                        }
+                        removals.get(attribute).add(whiskey.getId());
+                    }
+                    additions.get(attribute).add(value, whiskey.getId());
+                }
+            }
+            for (Attribute attribute : Attribute.values()) {
+                columns.get(attribute).merge(additions.get(attribute), removals.get(attribute));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                for (Attribute attribute : Attribute.values()) {
+                    columns.get(attribute).remove(previous.values()[attribute.ordinal()], id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            columns.values().forEach(SortedColumn::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 범위 조건을 만족하는 id 집합
+     * 가장 좁은 범위 하나만 배열에서 잘라내고 나머지 조건은 후보마다 값을 직접 비교
+     *
+     * @param restrictTo 검색 결과 등으로 대상을 제한할 id (null이면 전체)
+     */
+    public Set<Long> filter(Collection<Long> restrictTo, Map<Attribute, Range> ranges) {
+        lock.readLock().lock();
+        try {
+            Attribute narrowest = null;
+            int from = 0;
+            int to = 0;
+            for (Map.Entry<Attribute, Range> entry : ranges.entrySet()) {
+                if (entry.getValue().isUnbounded()) {
+                    continue;
+                }
+                SortedColumn column = columns.get(entry.getKey());
+                int lower = column.lowerBound(entry.getValue().min());
+                int upper = column.upperBound(entry.getValue().max());
+                if (narrowest == null || upper - lower < to - from) {
+                    narrowest = entry.getKey();
+                    from = lower;
+                    to = upper;
+                }
+            }
+
+            Set<Long> result = new LinkedHashSet<>();
+            if (narrowest == null) {
+                if (restrictTo != null) {
+                    restrictTo.stream().filter(documents::containsKey).forEach(result::add);
+                } else {
+                    result.addAll(documents.keySet());
+                }
+                return result;
+            }
+
+            if (restrictTo != null && restrictTo.size() < to - from) {
+                for (Long id : restrictTo) {
+                    if (matches(id, ranges)) {
+                        result.add(id);
+                    }
+                }
+                return result;
+            }
+
+            Set<Long> allowed = restrictTo != null ? Set.copyOf(restrictTo) : null;
+            long[] ids = columns.get(narrowest).ids;
+            for (int i = from; i < to; i++) {
+                long id = ids[i];
+                if ((allowed == null || allowed.contains(id)) && matches(id, ranges)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 속성 값 내림차순 상위 limit개 id (값이 같으면 id 내림차순), 정렬 없이 배열 끝에서부터 읽음
+     */
+    public List<Long> top(Attribute attribute, WhiskeyCategory category, int limit) {
+        lock.readLock().lock();
+        try {
+            SortedColumn column = columns.get(attribute);
+            List<Long> ids = new ArrayList<>(Math.min(limit, column.size));
+            for (int i = column.size - 1; i >= 0 && ids.size() < limit; i--) {
+                long id = column.ids[i];
+                if (category == null || documents.get(id).category() == category) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(Long id, Map<Attribute, Range> ranges) {
+        Document document = documents.get(id);
+        if (document == null) {
+            return false;
+        }
+        for (Map.Entry<Attribute, Range> entry : ranges.entrySet()) {
+            if (!entry.getValue().isUnbounded() && !entry.getValue().contains(document.values()[entry.getKey().ordinal()])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double[] valuesOf(Whiskey whiskey) {
+        double[] values = new double[Attribute.values().length];
+        values[Attribute.ABV.ordinal()] = valueOf(whiskey.getAbv());
+        values[Attribute.VOLUME.ordinal()] = valueOf(whiskey.getVolume());
+        values[Attribute.STAR_POINT.ordinal()] = valueOf(whiskey.getStarPoint());
+        return values;
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    /**
+     * 배치로 추가할 (값, id) 목록 (값이 없는 항목은 넣지 않음)
+     */
+    private static final class SortedRun {
+
+        private final double[] values;
+        private final long[] ids;
+        private int size;
+
+        SortedRun(int capacity) {
+            values = new double[capacity];
+            ids = new long[capacity];
+        }
+
+        void add(double value, long id) {
+            if (!Double.isNaN(value)) {
+                values[size] = value;
+                ids[size] = id;
+                size++;
+            }
+        }
+
+        /**
+         * (값, id) 오름차순으로 정렬한 순서
+         */
+        int[] order() {
+            return IntStream.range(0, size).boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(i -> values[i]).thenComparingLong(i -> ids[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    /**
+     * (값, id) 오름차순으로 정렬된 병렬 배열, 삽입/삭제는 이진 탐색 후 System.arraycopy로 이동
+     * 배치는 정렬한 묶음을 기존 배열과 한 번에 병합
+     */
+    private static final class SortedColumn {
+
+        private double[] values = new double[256];
+        private long[] ids = new long[256];
+        private int size;
+
+        void insert(double value, long id) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            int position = position(value, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            values[position] = value;
+            ids[position] = id;
+            size++;
+        }
+
+        void remove(double value, long id) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            int position = position(value, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+
+        /**
+         * removedIds의 기존 항목을 빼면서 정렬한 추가 항목과 병합해 새 배열로 교체 (O(n + k log k))
+         */
+        void merge(SortedRun run, Set<Long> removedIds) {
+            if (run.size == 0 && removedIds.isEmpty()) {
+                return;
+            }
+            int[] order = run.order();
+            int capacity = Math.max(256, Integer.highestOneBit(Math.max(1, size + run.size)) << 1);
+            double[] mergedValues = new double[capacity];
+            long[] mergedIds = new long[capacity];
+            int merged = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < order.length) {
+                if (i < size && removedIds.contains(ids[i])) {
+                    i++;
+                    continue;
+                }
+                boolean takeExisting = j == order.length || (i < size && compare(values[i], ids[i],
+                        run.values[order[j]], run.ids[order[j]]) < 0);
+                if (takeExisting) {
+                    mergedValues[merged] = values[i];
+                    mergedIds[merged++] = ids[i++];
+                } else {
+                    mergedValues[merged] = run.values[order[j]];
+                    mergedIds[merged++] = run.ids[order[j++]];
+                }
+            }
+            values = mergedValues;
+            ids = mergedIds;
+            size = merged;
+        }
+
+        void clear() {
+            values = new double[256];
+            ids = new long[256];
+            size = 0;
+        }
+
+        /**
+         * min 이상인 첫 위치 (min이 null이면 0)
+         */
+        int lowerBound(Double min) {
+            return min == null ? 0 : -position(min, Long.MIN_VALUE) - 1;
+        }
+
+        /**
+         * max 초과인 첫 위치 (max가 null이면 size)
+         */
+        int upperBound(Double max) {
+            return max == null ? size : -position(max, Long.MAX_VALUE) - 1;
+        }
+
+        private int position(double value, long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int compare = compare(values[mid], ids[mid], value, id);
+                if (compare < 0) {
+                    low = mid + 1;
+                } else if (compare > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private static int compare(double value, long id, double otherValue, long otherId) {
+            int compare = Double.compare(value, otherValue);
+            return compare != 0 ? compare : Long.compare(id, otherId);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * name, englishName, brand에 대한 n-gram 역색인 검색
+ * 1글자 검색어는 unigram, 2글자 이상은 bigram 포스팅 리스트를 교집합한 뒤 실제 부분 문자열 여부로 후보를 검증
+ */
+@Component
+public class WhiskeySearchIndex implements CatalogIndex {
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::createdAt).reversed())
+            .thenComparing(Comparator.comparingLong(Hit::id).reversed());
+    private static final Comparator<Hit> NEWEST = Comparator.comparingLong(Hit::createdAt)
+            .thenComparingLong(Hit::id).reversed();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    /**
+     * 검색 결과 (관련도 점수 내림차순, 동점이면 최신순)
+     */
+    public record Hit(long id, int score, long createdAt) {
+    }
+
+    private record Document(long id, WhiskeyCategory category, long createdAt,
+                            String name, String englishName, String brand) {
+    }
+
+    @Override
+    public void upsert(Whiskey whiskey) {
+        Document document = new Document(
+                whiskey.getId(),
+                whiskey.getCategory(),
+                whiskey.getCreatedAt() != null ? whiskey.getCreatedAt() : 0L,
+                SearchText.normalize(whiskey.getName()),
+                SearchText.normalize(whiskey.getEnglishName()),
+                SearchText.normalize(whiskey.getBrand()));
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(document.id(), document);
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    removePosting(gram, previous.id());
+                }
+            }
+            for (String gram : grams(document)) {
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(document.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    removePosting(gram, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 부분 문자열 검색 (category가 null이면 전체, 일치 전체를 관련도 순으로)
+     */
+    public List<Hit> search(String query, WhiskeyCategory category) {
+        return search(query, category, 0, Integer.MAX_VALUE).hits();
+    }
+
+    /**
+     * 관련도 순 offset번째부터 limit개 (total은 전체 일치 수)
+     * 일치 전체를 정렬하지 않고 offset + limit개만 힙에 유지하므로 짧은 검색어에도 비용이 페이지 위치에 비례
+     */
+    public TopHits search(String query, WhiskeyCategory category, long offset, int limit) {
+        return top(query, category, hit -> true, RANKING, offset, limit);
+    }
+
+    /**
+     * 최신순(createdAt, id 내림차순)으로 after를 통과한 일치 중 앞의 limit개 (커서 기반 검색용)
+     */
+    public List<Hit> newest(String query, WhiskeyCategory category, Predicate<Hit> after, int limit) {
+        return top(query, category, after, NEWEST, 0, limit).hits();
+    }
+
+    /**
+     * 일치하는 id (순서 없음, 다른 조건과 교집합할 후보용)
+     */
+    public List<Long> matchingIds(String query, WhiskeyCategory category) {
+        String normalized = SearchText.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long id : candidates(normalized)) {
+                Document document = documents.get(id);
+                if (document != null && (category == null || document.category() == category)
+                        && score(document, normalized) > 0) {
+                    ids.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    /**
+     * 일치 수와 요청한 구간의 결과
+     */
+    public record TopHits(List<Hit> hits, int total) {
+    }
+
+    private TopHits top(String query, WhiskeyCategory category, Predicate<Hit> accept, Comparator<Hit> order,
+                        long offset, int limit) {
+        String normalized = SearchText.normalize(query);
+        if (normalized.isEmpty()) {
+            return new TopHits(List.of(), 0);
+        }
+
+        // 순서상 가장 뒤인 결과가 맨 앞에 오는 힙 (더 앞선 결과가 오면 교체)
+        int bound = (int) Math.min((long) Integer.MAX_VALUE, offset + limit);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(bound, 1024) + 1, order.reversed());
+        int total = 0;
+        lock.readLock().lock();
+        try {
+            for (long id : candidates(normalized)) {
+                Document document = documents.get(id);
+                if (document == null || (category != null && document.category() != category)) {
+                    continue;
+                }
+                int score = score(document, normalized);
+                if (score <= 0) {
+                    continue;
+                }
+                Hit hit = new Hit(id, score, document.createdAt());
+                if (!accept.test(hit)) {
+                    continue;
+                }
+                total++;
+                if (heap.size() < bound) {
+                    heap.add(hit);
+                } else if (bound > 0 && order.compare(hit, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(order);
+        int from = (int) Math.min(offset, hits.size());
+        return new TopHits(from == 0 ? hits : List.copyOf(hits.subList(from, hits.size())), total);
+    }
+
+    private long[] candidates(String query) {
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new long[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        long[] result = lists.get(0).toArray();
+        int size = result.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            PostingList list = lists.get(i);
+            int kept = 0;
+            for (int j = 0; j < size; j++) {
+                if (list.contains(result[j])) {
+                    result[kept++] = result[j];
+                }
+            }
+            size = kept;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private void removePosting(String gram, long id) {
+        PostingList list = postings.get(gram);
+        if (list != null) {
+            list.remove(id);
+            if (list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(Document document) {
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(grams, document.name());
+        addGrams(grams, document.englishName());
+        addGrams(grams, document.brand());
+        return grams;
+    }
+
+    /**
+     * 색인 시에는 unigram과 bigram을 모두 등록
+     */
+    private static void addGrams(Set<String> grams, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 검색 시에는 1글자면 unigram, 그 이상이면 bigram만 사용
+     */
+    private static Set<String> grams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            grams.add(query);
+            return grams;
+        }
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 일치 위치/필드별 가중치 합산 (완전 일치 > 접두 일치 > 부분 일치, name > englishName > brand)
+     */
+    private static int score(Document document, String query) {
+        return fieldScore(document.name(), query, 100)
+                + fieldScore(document.englishName(), query, 50)
+                + fieldScore(document.brand(), query, 40);
+    }
+
+    private static int fieldScore(String field, String query, int weight) {
+        if (field.equals(query)) {
+            return weight * 3;
+        }
+        if (field.startsWith(query)) {
+            return weight * 2;
+        }
+        return field.contains(query) ? weight : 0;
+    }
+}
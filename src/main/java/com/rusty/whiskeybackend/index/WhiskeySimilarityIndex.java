@@ -0,0 +1,303 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Pairing;
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 향미 프로필 유사도 인덱스 ("이 위스키와 비슷한 위스키")
+ * 플레이버 태그/특성/카테고리/지역/페어링/도수를 고정 길이 float 벡터로 만들어 정규화해 두고
+ * 내적(코사인 유사도)으로 전체를 훑어 상위 k개를 고름
+ * 벡터는 차원별 float[] 열(column)로 저장하고, 기준 벡터의 0이 아닌 차원의 열만 블록 단위로 순차 누적(SIMD로 펼쳐지는 단순 루프)
+ * 큰 카탈로그는 블록을 나눠 병렬 스캔
+ */
+@Component
+public class WhiskeySimilarityIndex implements CatalogIndex {
+
+    static final int DIMENSIONS = 64;
+
+    // 벡터 구간 (카테고리 7 + 특성 3 + 플레이버 태그 32 + 지역 8 + 페어링 8 + 도수 1 + 여분)
+    private static final int CATEGORY_OFFSET = 0;
+    private static final int SUB_CATEGORY_OFFSET = CATEGORY_OFFSET + WhiskeyCategory.values().length;
+    private static final int FLAVOR_TAG_OFFSET = SUB_CATEGORY_OFFSET + WhiskeySubCategory.values().length;
+    private static final int FLAVOR_TAG_BUCKETS = 32;
+    private static final int REGION_OFFSET = FLAVOR_TAG_OFFSET + FLAVOR_TAG_BUCKETS;
+    private static final int REGION_BUCKETS = 8;
+    private static final int PAIRING_OFFSET = REGION_OFFSET + REGION_BUCKETS;
+    private static final int PAIRING_BUCKETS = 8;
+    private static final int ABV_OFFSET = PAIRING_OFFSET + PAIRING_BUCKETS;
+
+    private static final float WEIGHT_CATEGORY = 0.5f;
+    private static final float WEIGHT_SUB_CATEGORY = 1.0f;
+    private static final float WEIGHT_FLAVOR_TAG = 1.5f;
+    private static final float WEIGHT_REGION = 0.5f;
+    private static final float WEIGHT_PAIRING = 0.3f;
+    private static final float WEIGHT_ABV = 0.5f;
+
+    // 이 개수 이상이면 블록을 나눠 병렬로 스캔
+    private static final int PARALLEL_THRESHOLD = 20_000;
+    private static final int BLOCK_SIZE = 8_192;
+
+    /**
+     * 유사도 결과
+     */
+    public record Neighbor(long id, float score) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private float[][] columns = new float[DIMENSIONS][1024];
+    private long[] ids = new long[1024];
+    private int size;
+
+    @Override
+    public void upsert(Whiskey whiskey) {
+        float[] vector = vectorize(whiskey);
+
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(whiskey.getId());
+            if (slot == null) {
+                slot = size++;
+                if (slot == ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                    for (int d = 0; d < DIMENSIONS; d++) {
+                        columns[d] = Arrays.copyOf(columns[d], ids.length);
+                    }
+                }
+                ids[slot] = whiskey.getId();
+                slotsById.put(whiskey.getId(), slot);
+            }
+            for (int d = 0; d < DIMENSIONS; d++) {
+                columns[d][slot] = vector[d];
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            // 마지막 슬롯을 빈 자리로 옮겨 배열을 빈틈없이 유지
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    columns[d][slot] = columns[d][last];
+                }
+                slotsById.put(ids[slot], slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotsById.clear();
+            columns = new float[DIMENSIONS][1024];
+            ids = new long[1024];
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long id) {
+        lock.readLock().lock();
+        try {
+            return slotsById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 위스키와 코사인 유사도가 높은 순으로 limit개 (기준 위스키 자신과 유사도 0 이하는 제외)
+     */
+    public List<Neighbor> similar(Long id, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot == null || limit <= 0) {
+                return List.of();
+            }
+            Query query = Query.of(columns, slot);
+
+            TopK top;
+            if (size < PARALLEL_THRESHOLD) {
+                top = new TopK(limit);
+                for (int from = 0; from < size; from += BLOCK_SIZE) {
+                    top.merge(scan(query, from, Math.min(size, from + BLOCK_SIZE), slot, limit));
+                }
+            } else {
+                int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+                top = IntStream.range(0, blocks).parallel()
+                        .mapToObj(block -> scan(query, block * BLOCK_SIZE, Math.min(size, (block + 1) * BLOCK_SIZE), slot, limit))
+                        .reduce((left, right) -> left.merge(right))
+                        .orElseGet(() -> new TopK(limit));
+            }
+            return top.toNeighbors(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TopK scan(Query query, int from, int to, int self, int limit) {
+        TopK top = new TopK(limit);
+        float[] scores = new float[to - from];
+        int[] dimensions = query.dimensions();
+        float[] weights = query.weights();
+        for (int i = 0; i < dimensions.length; i++) {
+            float[] column = columns[dimensions[i]];
+            float weight = weights[i];
+            for (int j = 0; j < scores.length; j++) {
+                scores[j] += weight * column[from + j];
+            }
+        }
+        for (int j = 0; j < scores.length; j++) {
+            if (scores[j] > 0f && from + j != self) {
+                top.offer(from + j, scores[j]);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 기준 벡터의 0이 아닌 차원만 추린 질의 (보통 64차원 중 10개 안팎이라 읽는 열도 그만큼만)
+     */
+    private record Query(int[] dimensions, float[] weights) {
+
+        static Query of(float[][] columns, int slot) {
+            int count = 0;
+            for (int d = 0; d < DIMENSIONS; d++) {
+                if (columns[d][slot] != 0f) {
+                    count++;
+                }
+            }
+            int[] dimensions = new int[count];
+            float[] weights = new float[count];
+            for (int d = 0, j = 0; d < DIMENSIONS; d++) {
+                if (columns[d][slot] != 0f) {
+                    dimensions[j] = d;
+                    weights[j++] = columns[d][slot];
+                }
+            }
+            return new Query(dimensions, weights);
+        }
+    }
+
+    /**
+     * 위스키 속성을 단위 길이 벡터로 변환 (태그/지역/페어링은 해시 버킷에 누적)
+     */
+    static float[] vectorize(Whiskey whiskey) {
+        float[] vector = new float[DIMENSIONS];
+        if (whiskey.getCategory() != null) {
+            vector[CATEGORY_OFFSET + whiskey.getCategory().ordinal()] += WEIGHT_CATEGORY;
+        }
+        for (WhiskeySubCategory subCategory : nullSafe(whiskey.getSubCategories())) {
+            if (subCategory != null) {
+                vector[SUB_CATEGORY_OFFSET + subCategory.ordinal()] = WEIGHT_SUB_CATEGORY;
+            }
+        }
+        for (String tag : nullSafe(whiskey.getFlavorTags())) {
+            addHashed(vector, FLAVOR_TAG_OFFSET, FLAVOR_TAG_BUCKETS, tag, WEIGHT_FLAVOR_TAG);
+        }
+        addHashed(vector, REGION_OFFSET, REGION_BUCKETS, whiskey.getRegion(), WEIGHT_REGION);
+        for (Pairing pairing : nullSafe(whiskey.getPairings())) {
+            if (pairing != null) {
+                addHashed(vector, PAIRING_OFFSET, PAIRING_BUCKETS, pairing.getName(), WEIGHT_PAIRING);
+            }
+        }
+        if (whiskey.getAbv() != null) {
+            // 40% 근처를 0으로 두고 캐스크 스트렝스(60% 이상)로 갈수록 커지도록
+            vector[ABV_OFFSET] = WEIGHT_ABV * (float) Math.max(-1.0, Math.min(1.0, (whiskey.getAbv() - 40.0) / 20.0));
+        }
+
+        float norm = 0f;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm > 0f) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int i = 0; i < DIMENSIONS; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vector;
+    }
+
+    private static void addHashed(float[] vector, int offset, int buckets, String value, float weight) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        int hash = SearchText.normalize(value).hashCode();
+        vector[offset + Math.floorMod(hash ^ (hash >>> 16), buckets)] += weight;
+    }
+
+    private static <T> List<T> nullSafe(List<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    /**
+     * 점수 상위 k개 슬롯 (k가 작으므로 정렬된 배열에 삽입)
+     */
+    private static final class TopK {
+
+        private final int[] slots;
+        private final float[] scores;
+        private int count;
+
+        TopK(int limit) {
+            slots = new int[limit];
+            scores = new float[limit];
+        }
+
+        void offer(int slot, float score) {
+            if (count == slots.length && score <= scores[count - 1]) {
+                return;
+            }
+            int position = count == slots.length ? count - 1 : count++;
+            while (position > 0 && scores[position - 1] < score) {
+                scores[position] = scores[position - 1];
+                slots[position] = slots[position - 1];
+                position--;
+            }
+            scores[position] = score;
+            slots[position] = slot;
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.count; i++) {
+                offer(other.slots[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        List<Neighbor> toNeighbors(long[] ids) {
+            List<Neighbor> neighbors = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                neighbors.add(new Neighbor(ids[slots[i]], scores[i]));
+            }
+            return neighbors;
+        }
+    }
+}
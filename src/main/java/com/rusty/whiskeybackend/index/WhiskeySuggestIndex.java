@@ -0,0 +1,425 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동완성용 접두어 인덱스
+ * name, englishName, brand의 각 단어 시작 위치부터의 접미 문자열을 자모 분해 키와 초성 키로 정렬해 두고
+ * 입력한 접두어 범위만 훑어서 상위 k개를 반환 (예: "글레", "ㄱㄹㄹㅂ", "12년", "glen")
+ * 일치가 많은 짧은 접두어는 범위 전체를 훑지 않도록 등록 때 접두어별 상위 목록을 함께 갱신해 두고 조회는 읽기만 함
+ * (목록은 TOP_K의 두 배까지 두어 삭제로 TOP_K개 아래가 될 때만 범위를 다시 훑음)
+ * 긴 접두어는 범위를 훑되 MAX_SCAN개 키까지만 봄
+ * 키는 정렬된 배열을 통째로 교체하며 갱신하므로 조회는 잠금 없이 읽고, 배치 등록은 배열을 한 번만 다시 만듦
+ */
+@Component
+public class WhiskeySuggestIndex implements CatalogIndex {
+
+    // 자모 단위 길이가 이 이하인 접두어(한두 자)는 상위 목록을 유지
+    private static final int HEAD_PREFIX_LENGTH = 4;
+    private static final int TOP_K = 20;
+    private static final int HEAD_CAPACITY = TOP_K * 2;
+    private static final int MAX_SCAN = 2_000;
+    private static final int MAX_KEY_LENGTH = 24;
+
+    private static final int WEIGHT_NAME_START = 4;
+    private static final int WEIGHT_NAME_WORD = 3;
+    private static final int WEIGHT_BRAND = 2;
+    private static final int WEIGHT_ENGLISH_NAME = 1;
+
+    // 키 → id → 가중치 순 (배치 병합 때 수백만 번 호출되므로 Comparator 조합 대신 직접 비교)
+    private static final Comparator<Entry> ENTRY_ORDER = (a, b) -> {
+        int compare = a.key().compareTo(b.key());
+        if (compare == 0) {
+            compare = Long.compare(a.id(), b.id());
+        }
+        return compare != 0 ? compare : Integer.compare(a.weight(), b.weight());
+    };
+
+    // 가중치 → 별점 → 짧은 이름 → id 순 (상위 목록 갱신마다 호출되므로 직접 비교)
+    private static final Comparator<Ranked> RANKING = (a, b) -> {
+        int compare = Integer.compare(b.weight(), a.weight());
+        if (compare == 0) {
+            compare = Double.compare(b.starPoint(), a.starPoint());
+        }
+        if (compare == 0) {
+            compare = Integer.compare(a.nameLength(), b.nameLength());
+        }
+        return compare != 0 ? compare : Long.compare(a.id(), b.id());
+    };
+
+    private final SortedKeys jamoKeys = new SortedKeys();
+    private final SortedKeys chosungKeys = new SortedKeys();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Head> jamoHeads = new ConcurrentHashMap<>();
+    private final Map<String, Head> chosungHeads = new ConcurrentHashMap<>();
+
+    /**
+     * 자동완성 결과
+     */
+    public record Suggestion(long id, String name, String englishName, String brand) {
+    }
+
+    private record Entry(String key, long id, int weight) {
+    }
+
+    private record Ranked(long id, int weight, double starPoint, int nameLength) {
+    }
+
+    /**
+     * 접두어별 상위 목록 (truncated면 목록 밖에도 일치하는 문서가 있음)
+     */
+    private record Head(List<Ranked> top, boolean truncated) {
+    }
+
+    private record Document(Suggestion suggestion, double starPoint, List<Entry> jamoEntries, List<Entry> chosungEntries) {
+
+        Ranked ranked(int weight) {
+            return new Ranked(suggestion.id(), weight, starPoint, suggestion.name().length());
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Whiskey whiskey) {
+        update(List.of(whiskey.getId()), List.of(whiskey));
+    }
+
+    /**
+     * 배치 추가/갱신 (기존 키를 모두 뺀 뒤 새 키를 모아 한 번에 병합)
+     */
+    @Override
+    public synchronized void upsertAll(Collection<Whiskey> whiskeys) {
+        Map<Long, Whiskey> latest = new LinkedHashMap<>();
+        whiskeys.forEach(whiskey -> latest.put(whiskey.getId(), whiskey));
+        update(latest.keySet(), latest.values());
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        update(List.of(id), List.of());
+    }
+
+    /**
+     * removedIds의 기존 문서를 빼고 whiskeys를 추가
+     * 상위 목록을 다시 훑어 채울 때 새 문서가 섞이지 않도록 삭제를 모두 반영한 뒤에 추가함
+     */
+    private void update(Collection<Long> removedIds, Collection<Whiskey> whiskeys) {
+        List<Document> previous = new ArrayList<>();
+        for (Long id : removedIds) {
+            Document document = documents.remove(id);
+            if (document != null) {
+                previous.add(document);
+            }
+        }
+        if (!previous.isEmpty()) {
+            jamoKeys.removeAll(previous.stream().flatMap(document -> document.jamoEntries().stream()).toList());
+            chosungKeys.removeAll(previous.stream().flatMap(document -> document.chosungEntries().stream()).toList());
+            for (Document document : previous) {
+                long id = document.suggestion().id();
+                headPrefixes(document.jamoEntries()).keySet().forEach(prefix ->
+                        jamoHeads.computeIfPresent(prefix, (key, head) -> without(jamoKeys, prefix, head, id)));
+                headPrefixes(document.chosungEntries()).keySet().forEach(prefix ->
+                        chosungHeads.computeIfPresent(prefix, (key, head) -> without(chosungKeys, prefix, head, id)));
+            }
+        }
+        if (whiskeys.isEmpty()) {
+            return;
+        }
+
+        List<Document> added = whiskeys.stream().map(WhiskeySuggestIndex::document).toList();
+        added.forEach(document -> documents.put(document.suggestion().id(), document));
+        jamoKeys.addAll(added.stream().flatMap(document -> document.jamoEntries().stream()).toList());
+        chosungKeys.addAll(added.stream().flatMap(document -> document.chosungEntries().stream()).toList());
+        // 접두어별로 이번 배치의 후보를 모아 상위 목록마다 한 번만 병합
+        Map<String, List<Ranked>> jamoCandidates = new HashMap<>();
+        Map<String, List<Ranked>> chosungCandidates = new HashMap<>();
+        for (Document document : added) {
+            headPrefixes(document.jamoEntries()).forEach((prefix, weight) ->
+                    jamoCandidates.computeIfAbsent(prefix, key -> new ArrayList<>()).add(document.ranked(weight)));
+            headPrefixes(document.chosungEntries()).forEach((prefix, weight) ->
+                    chosungCandidates.computeIfAbsent(prefix, key -> new ArrayList<>()).add(document.ranked(weight)));
+        }
+        jamoCandidates.forEach((prefix, candidates) ->
+                jamoHeads.compute(prefix, (key, head) -> insertAll(head, candidates)));
+        chosungCandidates.forEach((prefix, candidates) ->
+                chosungHeads.compute(prefix, (key, head) -> insertAll(head, candidates)));
+    }
+
+    private static Document document(Whiskey whiskey) {
+        List<Entry> jamoEntries = new ArrayList<>();
+        List<Entry> chosungEntries = new ArrayList<>();
+        addKeys(whiskey.getId(), whiskey.getName(), WEIGHT_NAME_START, WEIGHT_NAME_WORD, jamoEntries, chosungEntries);
+        addKeys(whiskey.getId(), whiskey.getBrand(), WEIGHT_BRAND, WEIGHT_BRAND, jamoEntries, chosungEntries);
+        addKeys(whiskey.getId(), whiskey.getEnglishName(), WEIGHT_ENGLISH_NAME, WEIGHT_ENGLISH_NAME, jamoEntries, chosungEntries);
+
+        Suggestion suggestion = new Suggestion(whiskey.getId(), whiskey.getName(), whiskey.getEnglishName(), whiskey.getBrand());
+        double starPoint = whiskey.getStarPoint() != null ? whiskey.getStarPoint() : 0.0;
+        // 배열은 중복을 걸러 주지 않으므로 같은 키는 한 번만
+        return new Document(suggestion, starPoint, jamoEntries.stream().distinct().toList(),
+                chosungEntries.stream().distinct().toList());
+    }
+
+    @Override
+    public synchronized void clear() {
+        documents.clear();
+        jamoKeys.clear();
+        chosungKeys.clear();
+        jamoHeads.clear();
+        chosungHeads.clear();
+    }
+
+    /**
+     * 접두어로 상위 limit개 조회 (가중치 → 별점 → 짧은 이름 순, 최대 TOP_K개)
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String normalized = SearchText.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int size = Math.min(limit, TOP_K);
+
+        Map<Long, Ranked> best = new HashMap<>();
+        collect(jamoKeys, jamoHeads, Hangul.decompose(normalized), best);
+        if (Hangul.isChosungQuery(normalized)) {
+            collect(chosungKeys, chosungHeads, normalized, best);
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(size, best.size()));
+        for (Ranked ranked : best.values().stream().sorted(RANKING).toList()) {
+            Document document = documents.get(ranked.id());
+            if (document != null) {
+                suggestions.add(document.suggestion());
+                if (suggestions.size() == size) {
+                    break;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * 짧은 접두어는 유지 중인 상위 목록에서, 그 외에는 접두어 범위에서 문서별 최고 가중치를 모음
+     * 두 키 집합의 상위 목록을 합쳐도 합친 결과의 상위 TOP_K개는 정확함 (한쪽에서 밀린 문서는 합쳐도 밀림)
+     * 상위 목록이 없는 접두어는 일치하는 문서가 없는 것이므로 빈 결과 (조회 때 목록을 만들지 않음)
+     */
+    private void collect(SortedKeys keys, Map<String, Head> heads, String prefix,
+                         Map<Long, Ranked> best) {
+        if (prefix.length() <= HEAD_PREFIX_LENGTH) {
+            Head head = heads.get(prefix);
+            if (head != null) {
+                for (Ranked ranked : head.top().subList(0, Math.min(TOP_K, head.top().size()))) {
+                    best.merge(ranked.id(), ranked, WhiskeySuggestIndex::higher);
+                }
+            }
+        } else {
+            scan(keys, prefix, MAX_SCAN, best);
+        }
+    }
+
+    /**
+     * 접두어 범위의 키를 최대 maxEntries개까지 훑어 문서별 최고 가중치를 모음
+     */
+    private void scan(SortedKeys keys, String prefix, int maxEntries, Map<Long, Ranked> best) {
+        Entry[] entries = keys.snapshot();
+        int from = SortedKeys.lowerBound(entries, prefix);
+        int to = (int) Math.min(entries.length, (long) from + maxEntries);
+        for (int i = from; i < to; i++) {
+            Entry entry = entries[i];
+            if (!entry.key().startsWith(prefix)) {
+                return;
+            }
+            Document document = documents.get(entry.id());
+            if (document != null) {
+                best.merge(entry.id(), document.ranked(entry.weight()), WhiskeySuggestIndex::higher);
+            }
+        }
+    }
+
+    private static Ranked higher(Ranked a, Ranked b) {
+        return RANKING.compare(a, b) <= 0 ? a : b;
+    }
+
+    /**
+     * 문서 키들의 짧은 접두어별 최고 가중치
+     */
+    private static Map<String, Integer> headPrefixes(List<Entry> entries) {
+        Map<String, Integer> prefixes = new HashMap<>();
+        for (Entry entry : entries) {
+            for (int length = 1; length <= Math.min(HEAD_PREFIX_LENGTH, entry.key().length()); length++) {
+                prefixes.merge(entry.key().substring(0, length), entry.weight(), Math::max);
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * 상위 목록에 후보들을 병합 (HEAD_CAPACITY개를 넘는 뒷부분은 버림)
+     */
+    private static Head insertAll(Head head, List<Ranked> candidates) {
+        List<Ranked> top = head != null ? head.top() : List.of();
+        Ranked last = top.size() >= HEAD_CAPACITY ? top.get(top.size() - 1) : null;
+        // 꽉 찬 목록의 맨 뒤보다 낮은 후보는 들어갈 수 없으므로 정렬 전에 버림
+        List<Ranked> sorted = candidates.stream()
+                .filter(ranked -> last == null || RANKING.compare(ranked, last) < 0)
+                .sorted(RANKING)
+                .toList();
+        if (sorted.isEmpty()) {
+            return head.truncated() ? head : new Head(top, true);
+        }
+
+        List<Ranked> merged = new ArrayList<>(Math.min(HEAD_CAPACITY, top.size() + sorted.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < HEAD_CAPACITY && (i < top.size() || j < sorted.size())) {
+            if (j == sorted.size() || (i < top.size() && RANKING.compare(top.get(i), sorted.get(j)) < 0)) {
+                merged.add(top.get(i++));
+            } else {
+                merged.add(sorted.get(j++));
+            }
+        }
+        boolean truncated = (head != null && head.truncated()) || sorted.size() < candidates.size()
+                || i < top.size() || j < sorted.size();
+        return new Head(List.copyOf(merged), truncated);
+    }
+
+    /**
+     * 상위 목록에서 제외 (목록 밖 문서가 있는데 TOP_K개 아래로 줄면 범위를 다시 훑어 채움, 비면 목록을 지움)
+     * 호출 전에 문서의 키를 먼저 지워 두어야 다시 훑을 때 포함되지 않음
+     */
+    private Head without(SortedKeys keys, String prefix, Head head, long id) {
+        if (head.top().stream().noneMatch(ranked -> ranked.id() == id)) {
+            return head;
+        }
+        List<Ranked> top = head.top().stream().filter(ranked -> ranked.id() != id).toList();
+        if (head.truncated() && top.size() < TOP_K) {
+            Map<Long, Ranked> all = new HashMap<>();
+            scan(keys, prefix, Integer.MAX_VALUE, all);
+            List<Ranked> rebuilt = all.values().stream().sorted(RANKING).toList();
+            if (rebuilt.isEmpty()) {
+                return null;
+            }
+            return new Head(List.copyOf(rebuilt.subList(0, Math.min(HEAD_CAPACITY, rebuilt.size()))),
+                    rebuilt.size() > HEAD_CAPACITY);
+        }
+        return top.isEmpty() ? null : new Head(top, head.truncated());
+    }
+
+    /**
+     * 단어 시작 위치마다 이후 문자열을 키로 등록 ("더 글렌리벳 12년" → "더글렌리벳12년", "글렌리벳12년", "12년")
+     */
+    private static void addKeys(long id, String text, int startWeight, int wordWeight,
+                                List<Entry> jamoEntries, List<Entry> chosungEntries) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String[] words = text.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        for (int start = 0; start < words.length; start++) {
+            String suffix = SearchText.normalize(String.join("", List.of(words).subList(start, words.length)));
+            if (suffix.length() > MAX_KEY_LENGTH) {
+                suffix = suffix.substring(0, MAX_KEY_LENGTH);
+            }
+            int weight = start == 0 ? startWeight : wordWeight;
+            jamoEntries.add(new Entry(Hangul.decompose(suffix), id, weight));
+            // 초성 검색어는 자음으로만 이루어지므로 초성 키도 앞쪽 자음까지만 두고, 자음으로 시작하지 않으면 넣지 않음
+            String chosung = Hangul.chosung(suffix);
+            int consonants = Hangul.leadingConsonants(chosung);
+            if (consonants > 0) {
+                chosungEntries.add(new Entry(chosung.substring(0, consonants), id, weight));
+            }
+        }
+    }
+
+    /**
+     * ENTRY_ORDER로 정렬된 키 배열 (변경은 새 배열을 만들어 교체하므로 조회는 잠금 없이 그 시점의 배열을 읽음)
+     * 삭제/추가는 이진 탐색으로 위치를 찾고 그 사이 구간을 System.arraycopy로 옮겨 배열을 한 번만 다시 만듦
+     */
+    private static final class SortedKeys {
+
+        private volatile Entry[] entries = new Entry[0];
+
+        Entry[] snapshot() {
+            return entries;
+        }
+
+        /**
+         * prefix 이상인 첫 위치
+         */
+        static int lowerBound(Entry[] entries, String prefix) {
+            int position = Arrays.binarySearch(entries, new Entry(prefix, Long.MIN_VALUE, Integer.MIN_VALUE), ENTRY_ORDER);
+            return position < 0 ? -position - 1 : position;
+        }
+
+        void removeAll(List<Entry> removed) {
+            Entry[] current = entries;
+            int[] positions = removed.stream()
+                    .mapToInt(entry -> Arrays.binarySearch(current, entry, ENTRY_ORDER))
+                    .filter(position -> position >= 0)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            if (positions.length == 0) {
+                return;
+            }
+            Entry[] updated = new Entry[current.length - positions.length];
+            int from = 0;
+            int to = 0;
+            for (int position : positions) {
+                System.arraycopy(current, from, updated, to, position - from);
+                to += position - from;
+                from = position + 1;
+            }
+            System.arraycopy(current, from, updated, to, current.length - from);
+            entries = updated;
+        }
+
+        void addAll(List<Entry> added) {
+            if (added.isEmpty()) {
+                return;
+            }
+            Entry[] sorted = added.toArray(new Entry[0]);
+            Arrays.sort(sorted, ENTRY_ORDER);
+            Entry[] current = entries;
+            Entry[] updated = new Entry[current.length + sorted.length];
+            int from = 0;
+            int to = 0;
+            for (Entry entry : sorted) {
+                int position = insertionPoint(current, from, entry);
+                System.arraycopy(current, from, updated, to, position - from);
+                to += position - from;
+                from = position;
+                updated[to++] = entry;
+            }
+            System.arraycopy(current, from, updated, to, current.length - from);
+            entries = updated;
+        }
+
+        void clear() {
+            entries = new Entry[0];
+        }
+
+        /**
+         * from 이후에서 entry가 들어갈 위치 (정렬된 순서로 추가하므로 from에서 간격을 두 배씩 늘려 범위를 좁힌 뒤 이진 탐색)
+         */
+        private static int insertionPoint(Entry[] entries, int from, Entry entry) {
+            int low = from;
+            int step = 1;
+            while (low + step < entries.length && ENTRY_ORDER.compare(entries[low + step], entry) < 0) {
+                low += step;
+                step <<= 1;
+            }
+            int position = Arrays.binarySearch(entries, low, Math.min(entries.length, low + step + 1), entry, ENTRY_ORDER);
+            return position < 0 ? -position - 1 : position;
+        }
+    }
+}
@@ -2,33 +2,116 @@ package com.rusty.whiskeybackend.repository;
 
 import com.rusty.whiskeybackend.domain.Whiskey;
 import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyChange;
+import com.rusty.whiskeybackend.dto.WhiskeyVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface WhiskeyRepository extends JpaRepository<Whiskey, Long> {
+public interface WhiskeyRepository extends JpaRepository<Whiskey, Long>, WhiskeyRepositoryCustom {
+
+    // 카테고리/검색 페이지 쿼리 캐시 영역 (cache 프로필에서만 사용, hibernate-caffeine.conf 참고)
+    String PAGE_QUERY_CACHE_REGION = "whiskey-page-query";
+
+    // 검색어 조건 (검색 인덱스와 같은 필드/비교: name, englishName, brand를 소문자로, 공백을 빼고 부분 일치)
+    // 인덱스 적재 전 DB 조회와 적재 후 인덱스 조회의 결과가 달라지지 않도록 함
+    // :search에는 SearchText.normalize한 값을 넘김 (탭/줄바꿈 등 ' ' 외의 공백도 인덱스와 같이 제거)
+    String SEARCH_CONDITION = "(LOWER(REPLACE(w.name, ' ', '')) LIKE CONCAT('%', LOWER(REPLACE(:search, ' ', '')), '%') OR " +
+            "LOWER(REPLACE(w.englishName, ' ', '')) LIKE CONCAT('%', LOWER(REPLACE(:search, ' ', '')), '%') OR " +
+            "LOWER(REPLACE(w.brand, ' ', '')) LIKE CONCAT('%', LOWER(REPLACE(:search, ' ', '')), '%'))";
 
     // 카테고리별 조회
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PAGE_QUERY_CACHE_REGION)
+    })
     Page<Whiskey> findByCategory(WhiskeyCategory category, Pageable pageable);
 
-    // 이름 또는 브랜드로 검색
-    @Query("SELECT w FROM Whiskey w WHERE " +
-           "LOWER(w.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(w.brand) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<Whiskey> searchByNameOrBrand(@Param("search") String search, Pageable pageable);
+    // 이름/영문명/브랜드로 검색
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PAGE_QUERY_CACHE_REGION)
+    })
+    @Query("SELECT w FROM Whiskey w WHERE " + SEARCH_CONDITION)
+    Page<Whiskey> searchByText(@Param("search") String search, Pageable pageable);
 
     // 카테고리 + 검색
-    @Query("SELECT w FROM Whiskey w WHERE w.category = :category AND " +
-           "(LOWER(w.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(w.brand) LIKE LOWER(CONCAT('%', :search, '%')))")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PAGE_QUERY_CACHE_REGION)
+    })
+    @Query("SELECT w FROM Whiskey w WHERE w.category = :category AND " + SEARCH_CONDITION)
     Page<Whiskey> findByCategoryAndSearch(@Param("category") WhiskeyCategory category, 
                                           @Param("search") String search, 
                                           Pageable pageable);
 
+    // 커서 기반 조회 (createdAt DESC, id DESC 순으로 커서 다음 항목부터, count 쿼리 없음)
+    @Query("SELECT w FROM Whiskey w WHERE " +
+           "w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<Whiskey> findNextPage(@Param("createdAt") long createdAt, @Param("id") long id, Limit limit);
+
+    @Query("SELECT w FROM Whiskey w WHERE w.category = :category AND " +
+           "(w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id)) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<Whiskey> findNextPageByCategory(@Param("category") WhiskeyCategory category,
+                                         @Param("createdAt") long createdAt, @Param("id") long id, Limit limit);
+
+    @Query("SELECT w FROM Whiskey w WHERE " +
+           "(:category IS NULL OR w.category = :category) AND " +
+           SEARCH_CONDITION + " AND " +
+           "(w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id)) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<Whiskey> searchNextPage(@Param("category") WhiskeyCategory category, @Param("search") String search,
+                                 @Param("createdAt") long createdAt, @Param("id") long id, Limit limit);
+
+    // (updatedAt, id) 위치 다음 변경부터 until 전까지 (updated_at, id 인덱스만으로 조회, 변경 피드용)
+    @Query("SELECT new com.rusty.whiskeybackend.dto.WhiskeyChange(w.id, w.updatedAt) FROM Whiskey w WHERE " +
+           "w.updatedAt < :until AND (w.updatedAt > :updatedAt OR (w.updatedAt = :updatedAt AND w.id > :id)) " +
+           "ORDER BY w.updatedAt, w.id")
+    List<WhiskeyChange> findChanges(@Param("updatedAt") long updatedAt, @Param("id") long id,
+                                    @Param("until") long until, Limit limit);
+
+    // 상세 응답 검증용 버전 (PK 조회 한 번, 본문/컬렉션은 읽지 않음)
+    @Query("SELECT new com.rusty.whiskeybackend.dto.WhiskeyVersion(w.id, w.updatedAt, w.imageDataUrl) " +
+           "FROM Whiskey w WHERE w.id = :id")
+    Optional<WhiskeyVersion> findVersionById(@Param("id") Long id);
+
+    // data URL로 저장된 이미지가 남은 위스키 id (id 순 배치, 파일 저장소 이전용)
+    @Query("SELECT w.id FROM Whiskey w WHERE w.id > :afterId AND LOWER(w.imageDataUrl) LIKE 'data:%' ORDER BY w.id")
+    List<Long> findIdsWithInlineImage(@Param("afterId") long afterId, Limit limit);
+
+    // 별점 상위 id 조회 (인메모리 인덱스 적재 전 대체 경로)
+    @Query("SELECT w.id FROM Whiskey w WHERE w.starPoint IS NOT NULL AND " +
+           "(:category IS NULL OR w.category = :category) " +
+           "ORDER BY w.starPoint DESC, w.id DESC")
+    List<Long> findTopRatedIds(@Param("category") WhiskeyCategory category, Limit limit);
+
+    // id 순 배치 조회 (인메모리 인덱스 적재용)
+    List<Whiskey> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // 이미지 참조 수 조회 (같은 내용의 이미지는 하나의 파일을 공유)
+    long countByImageDataUrl(String imageDataUrl);
+
+    // 이미지를 참조하는 위스키 (파생 이미지 생성 후 updatedAt 갱신용)
+    List<Whiskey> findByImageDataUrl(String imageDataUrl);
+
+    // 주어진 이미지 URL 중 실제로 참조되고 있는 것 (고아 이미지 정리용, 배치 단위로 호출)
+    @Query("SELECT DISTINCT w.imageDataUrl FROM Whiskey w WHERE w.imageDataUrl IN :imageUrls")
+    List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
     // 카테고리별 개수 조회
     long countByCategory(WhiskeyCategory category);
 }
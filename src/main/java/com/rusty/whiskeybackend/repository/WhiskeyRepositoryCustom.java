@@ -0,0 +1,54 @@
+package com.rusty.whiskeybackend.repository;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyCursor;
+import com.rusty.whiskeybackend.dto.WhiskeyField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public interface WhiskeyRepositoryCustom {
+
+    /**
+     * id 목록 순서대로 조회 (없는 id는 제외)
+     * 영속성 컨텍스트와 2차 캐시를 먼저 확인하고 나머지만 DB에서 조회
+     */
+    List<Whiskey> findAllByIdInOrder(List<Long> ids);
+
+    /**
+     * 조회된 위스키들의 subCategories, pairings, flavorTags를 페이지 크기와 무관하게 최대 3번의 쿼리로 초기화
+     * (세 컬렉션 모두 bag이므로 한 쿼리에 함께 fetch join 할 수 없어 컬렉션별로 나눠서 조회,
+     * 이미 초기화되었거나 2차 캐시에 있는 컬렉션은 제외)
+     */
+    List<Whiskey> fetchCollections(List<Whiskey> whiskeys);
+
+    /**
+     * 전체 위스키를 id 순으로 chunkSize개씩 컬렉션까지 초기화해 넘겨줌 (트랜잭션 안에서 호출)
+     * 한 번의 커서로 읽고 chunk마다 영속성 컨텍스트를 비우므로 전체 건수와 무관하게 메모리 사용이 일정
+     */
+    void forEachChunk(int chunkSize, Consumer<List<Whiskey>> action);
+
+    /**
+     * 카테고리/검색어 조건의 페이지를 지정한 필드만 조회 (searchByNameOrBrand 등과 같은 조건)
+     * 엔티티 대신 필요한 컬럼만 SELECT하고, 컬렉션은 요청된 것만 id IN 쿼리 한 번씩으로 채움
+     * 행은 필드명 -> 값 (id는 항상 포함, 컬렉션은 엔티티 값 그대로, 이미지 파생 필드는 제외)
+     */
+    Page<Map<String, Object>> findFields(WhiskeyCategory category, String search, Set<WhiskeyField> fields,
+                                         Pageable pageable);
+
+    /**
+     * 커서 다음 limit개를 지정한 필드만 조회 (createdAt DESC, id DESC, findNextPage 등과 같은 조건)
+     */
+    List<Map<String, Object>> findFieldsAfter(WhiskeyCategory category, String search, WhiskeyCursor after,
+                                              Set<WhiskeyField> fields, int limit);
+
+    /**
+     * id 목록 순서대로 지정한 필드만 조회 (없는 id는 제외)
+     */
+    List<Map<String, Object>> findFieldsByIdInOrder(List<Long> ids, Set<WhiskeyField> fields);
+}
@@ -0,0 +1,275 @@
+package com.rusty.whiskeybackend.repository;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyCursor;
+import com.rusty.whiskeybackend.dto.WhiskeyField;
+import com.rusty.whiskeybackend.exception.BadRequestException;
+import com.rusty.whiskeybackend.index.SearchText;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class WhiskeyRepositoryImpl implements WhiskeyRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Whiskey> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Whiskey.class)
+                .enableOrderedReturn(true)
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Whiskey> fetchCollections(List<Whiskey> whiskeys) {
+        if (whiskeys.isEmpty()) {
+            return whiskeys;
+        }
+        fetchCollection(whiskeys, "subCategories", Whiskey::getSubCategories);
+        fetchCollection(whiskeys, "pairings", Whiskey::getPairings);
+        fetchCollection(whiskeys, "flavorTags", Whiskey::getFlavorTags);
+        return whiskeys;
+    }
+
+    @Override
+    public void forEachChunk(int chunkSize, Consumer<List<Whiskey>> action) {
+        // fetchSize 힌트로 서버 측 커서에서 나눠 읽음 (MySQL은 useCursorFetch=true 필요, application-prod.properties 참고)
+        // 읽기 전용이라 dirty checking용 스냅샷도 만들지 않음
+        try (Stream<Whiskey> whiskeys = entityManager
+                .createQuery("SELECT w FROM Whiskey w ORDER BY w.id", Whiskey.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            List<Whiskey> chunk = new ArrayList<>(chunkSize);
+            Iterator<Whiskey> iterator = whiskeys.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    fetchCollectionsInRange(chunk.get(0).getId(), chunk.get(chunk.size() - 1).getId());
+                    action.accept(chunk);
+                    chunk.clear();
+                    // 넘겨준 엔티티는 더 쓰지 않으므로 분리해 GC 대상으로 만듦
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFields(WhiskeyCategory category, String search, Set<WhiskeyField> fields,
+                                                Pageable pageable) {
+        String where = where(conditions(category, search));
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                select(fields) + where + orderBy(pageable.getSort()), Tuple.class);
+        bindConditions(query, category, search);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> rows = toRows(query.getResultList(), fields);
+        return PageableExecutionUtils.getPage(rows, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(w) FROM Whiskey w" + where, Long.class);
+            bindConditions(count, category, search);
+            return count.getSingleResult();
+        });
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsAfter(WhiskeyCategory category, String search, WhiskeyCursor after,
+                                                     Set<WhiskeyField> fields, int limit) {
+        List<String> conditions = conditions(category, search);
+        conditions.add("(w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id))");
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                select(fields) + where(conditions) + " ORDER BY w.createdAt DESC, w.id DESC", Tuple.class);
+        bindConditions(query, category, search);
+        query.setParameter("createdAt", after.createdAt());
+        query.setParameter("id", after.id());
+        query.setMaxResults(limit);
+        return toRows(query.getResultList(), fields);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByIdInOrder(List<Long> ids, Set<WhiskeyField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Tuple> tuples = entityManager.createQuery(select(fields) + " WHERE w.id IN :ids", Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Object, Map<String, Object>> rows = new HashMap<>();
+        for (Map<String, Object> row : toRows(tuples, fields)) {
+            rows.put(row.get(WhiskeyField.ID.getProperty()), row);
+        }
+        return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * id와 요청된 컬럼 필드만 SELECT (컬렉션/이미지 파생 필드는 제외)
+     */
+    private static String select(Set<WhiskeyField> fields) {
+        StringBuilder select = new StringBuilder("SELECT w.id");
+        for (WhiskeyField field : fields) {
+            if (field != WhiskeyField.ID && field.getKind() == WhiskeyField.Kind.COLUMN) {
+                select.append(", w.").append(field.getProperty());
+            }
+        }
+        return select.append(" FROM Whiskey w").toString();
+    }
+
+    private static List<String> conditions(WhiskeyCategory category, String search) {
+        List<String> conditions = new ArrayList<>();
+        if (category != null) {
+            conditions.add("w.category = :category");
+        }
+        if (search != null && !search.isBlank()) {
+            conditions.add(WhiskeyRepository.SEARCH_CONDITION);
+        }
+        return conditions;
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static void bindConditions(Query query, WhiskeyCategory category, String search) {
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (search != null && !search.isBlank()) {
+            query.setParameter("search", SearchText.normalize(search));
+        }
+    }
+
+    /**
+     * 정렬 속성은 컬럼 필드만 허용 (JPQL에 그대로 들어가므로 이름을 검증)
+     */
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            WhiskeyField field = WhiskeyField.of(order.getProperty());
+            if (field.getKind() != WhiskeyField.Kind.COLUMN) {
+                throw new BadRequestException("정렬할 수 없는 필드입니다: " + order.getProperty());
+            }
+            orders.add("w." + field.getProperty() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    /**
+     * 조회 결과를 필드 순서대로 행으로 만들고, 요청된 컬렉션은 한 쿼리씩으로 채움
+     */
+    private List<Map<String, Object>> toRows(List<Tuple> tuples, Set<WhiskeyField> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        Map<Long, Map<String, Object>> rowsById = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put(WhiskeyField.ID.getProperty(), tuple.get(0));
+            int column = 1;
+            for (WhiskeyField field : fields) {
+                if (field == WhiskeyField.ID) {
+                    continue;
+                }
+                if (field.getKind() == WhiskeyField.Kind.COLUMN) {
+                    row.put(field.getProperty(), tuple.get(column++));
+                } else if (field.getKind() == WhiskeyField.Kind.COLLECTION) {
+                    row.put(field.getProperty(), new ArrayList<>());
+                }
+            }
+            rows.add(row);
+            rowsById.put((Long) tuple.get(0), row);
+        }
+
+        for (WhiskeyField field : fields) {
+            if (field.getKind() != WhiskeyField.Kind.COLLECTION || rowsById.isEmpty()) {
+                continue;
+            }
+            List<Object[]> elements = entityManager.createQuery(
+                            "SELECT w.id, e FROM Whiskey w JOIN w." + field.getProperty() + " e WHERE w.id IN :ids",
+                            Object[].class)
+                    .setParameter("ids", rowsById.keySet())
+                    .getResultList();
+            for (Object[] element : elements) {
+                @SuppressWarnings("unchecked")
+                List<Object> values = (List<Object>) rowsById.get((Long) element[0]).get(field.getProperty());
+                values.add(element[1]);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * id 구간에 속한 위스키의 컬렉션 초기화 (연속된 id를 읽는 내보내기용, 긴 IN 목록 대신 PK 범위 조회)
+     */
+    private void fetchCollectionsInRange(long firstId, long lastId) {
+        for (String attribute : List.of("subCategories", "pairings", "flavorTags")) {
+            entityManager.createQuery(
+                            "SELECT DISTINCT w FROM Whiskey w LEFT JOIN FETCH w." + attribute +
+                            " WHERE w.id BETWEEN :firstId AND :lastId", Whiskey.class)
+                    .setParameter("firstId", firstId)
+                    .setParameter("lastId", lastId)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+        }
+    }
+
+    private void fetchCollection(List<Whiskey> whiskeys, String attribute, Function<Whiskey, List<?>> getter) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        String role = Whiskey.class.getName() + "." + attribute;
+
+        List<Long> missingIds = new ArrayList<>();
+        for (Whiskey whiskey : whiskeys) {
+            List<?> collection = getter.apply(whiskey);
+            if (Hibernate.isInitialized(collection)) {
+                continue;
+            }
+            if (cache.containsCollection(role, whiskey.getId())) {
+                Hibernate.initialize(collection);
+            } else {
+                missingIds.add(whiskey.getId());
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            entityManager.createQuery(
+                            "SELECT DISTINCT w FROM Whiskey w LEFT JOIN FETCH w." + attribute + " WHERE w.id IN :ids",
+                            Whiskey.class)
+                    .setParameter("ids", missingIds)
+                    .getResultList();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.rusty.whiskeybackend.repository;
+
+import com.rusty.whiskeybackend.domain.WhiskeyTombstone;
+import com.rusty.whiskeybackend.dto.WhiskeyChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WhiskeyTombstoneRepository extends JpaRepository<WhiskeyTombstone, Long> {
+
+    // (deletedAt, id) 위치 다음 삭제부터 until 전까지 (deleted_at, whiskey_id 인덱스만으로 조회)
+    @Query("SELECT new com.rusty.whiskeybackend.dto.WhiskeyChange(t.whiskeyId, t.deletedAt) FROM WhiskeyTombstone t WHERE " +
+           "t.deletedAt < :until AND (t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.whiskeyId > :id)) " +
+           "ORDER BY t.deletedAt, t.whiskeyId")
+    List<WhiskeyChange> findChanges(@Param("deletedAt") long deletedAt, @Param("id") long id,
+                                    @Param("until") long until, Limit limit);
+
+    // 보존 기간이 지난 삭제 기록 정리
+    @Modifying
+    @Query("DELETE FROM WhiskeyTombstone t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") long before);
+}
@@ -0,0 +1,96 @@
+package com.rusty.whiskeybackend.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합침
+ * 먼저 온 호출이 자기 스레드에서 조회하고, 그동안 같은 키로 온 호출은 그 결과(또는 예외)를 함께 받음
+ * 진행 중인 조회만 공유하고 끝난 결과는 보관하지 않음
+ * 세대(generation)가 바뀐 뒤 온 호출은 이전 세대의 조회에 합류하지 않고 새로 조회함 (쓰기 이후의 요청이 쓰기 이전에 시작한 결과를 받지 않도록)
+ * 합류한 호출은 maxWait까지만 기다리고, 그 뒤에는 직접 조회함
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final LongSupplier generation;
+    private final Duration maxWait;
+    private final AtomicLong shared = new AtomicLong();
+
+    public SingleFlight(LongSupplier generation, Duration maxWait) {
+        this.generation = generation;
+        this.maxWait = maxWait;
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        Flight<V> created = new Flight<>(generation.getAsLong());
+        Flight<V> flight = flights.compute(key, (k, current) ->
+                current != null && current.generation == created.generation ? current : created);
+        if (flight != created) {
+            shared.incrementAndGet();
+            return await(flight, loader);
+        }
+        try {
+            V value = loader.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 그사이 새 세대의 조회가 자리를 차지했으면 그대로 둠
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 진행 중인 조회 수
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    /**
+     * 다른 호출의 조회에 합류한 누적 횟수
+     */
+    public long sharedLoads() {
+        return shared.get();
+    }
+
+    private V await(Flight<V> flight, Supplier<V> loader) {
+        try {
+            return flight.result.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회 결과를 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static final class Flight<V> {
+
+        private final long generation;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+}
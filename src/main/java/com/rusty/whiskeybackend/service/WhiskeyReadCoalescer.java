@@ -0,0 +1,86 @@
+package com.rusty.whiskeybackend.service;
+
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.index.CatalogVersion;
+import com.rusty.whiskeybackend.index.SearchText;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 상세/목록(검색) 조회의 동시 요청 합치기
+ * 추천 위스키처럼 한 상세나 같은 검색에 요청이 몰리면 먼저 온 요청 하나만 조회하고 나머지는 그 결과를 함께 받음
+ * WhiskeyService의 트랜잭션 밖에서 합치므로, 기다리는 요청은 DB 연결을 잡지 않음
+ * 세대는 카탈로그 버전이라 커밋된 변경이 인덱스에 반영된 뒤(또는 파생 이미지 생성 뒤) 온 요청은 새로 조회함
+ * 결과 객체는 합류한 요청끼리 공유하므로 읽기만 해야 함
+ */
+@Service
+public class WhiskeyReadCoalescer {
+
+    private final WhiskeyService whiskeyService;
+    private final SingleFlight<Long, WhiskeyResponseDto> details;
+    private final SingleFlight<PageQuery, Page<WhiskeyResponseDto>> pages;
+
+    public WhiskeyReadCoalescer(WhiskeyService whiskeyService, CatalogVersion catalogVersion,
+                                @Value("${whiskey.coalesce.max-wait:PT5S}") Duration maxWait) {
+        this.whiskeyService = whiskeyService;
+        this.details = new SingleFlight<>(catalogVersion::generation, maxWait);
+        this.pages = new SingleFlight<>(catalogVersion::generation, maxWait);
+    }
+
+    /**
+     * WhiskeyService.findById와 같음 (없는 id의 ResourceNotFoundException도 함께 받음)
+     */
+    public WhiskeyResponseDto findById(Long id) {
+        return details.load(id, () -> whiskeyService.findById(id));
+    }
+
+    /**
+     * updatedAt(밀리초) 이후 수정본의 상세 조회 (ETag를 만든 버전보다 오래된 결과에 합류했으면 직접 다시 조회)
+     * 커밋 후 카탈로그 버전이 오르기 전의 짧은 사이에 먼저 시작한 조회에 합류한 경우
+     */
+    public WhiskeyResponseDto findById(Long id, long updatedAt) {
+        WhiskeyResponseDto whiskey = findById(id);
+        if (whiskey.getUpdatedAt() != null && whiskey.getUpdatedAt() < updatedAt) {
+            return whiskeyService.findById(id);
+        }
+        return whiskey;
+    }
+
+    /**
+     * WhiskeyService.findAll(category, search, pageable)과 같음
+     */
+    public Page<WhiskeyResponseDto> findAll(WhiskeyCategory category, String search, Pageable pageable) {
+        PageQuery query = PageQuery.of(category, search, pageable);
+        return pages.load(query, () -> whiskeyService.findAll(category, search, pageable));
+    }
+
+    /**
+     * 다른 요청의 조회에 합류한 누적 횟수
+     */
+    public long sharedLoads() {
+        return details.sharedLoads() + pages.sharedLoads();
+    }
+
+    /**
+     * 목록 조회 키 (검색어는 검색과 같이 정규화해 대소문자/공백만 다른 요청도 합침, 빈 검색어는 검색 없음과 같음)
+     * 페이지는 번호/크기/정렬만 비교
+     */
+    record PageQuery(WhiskeyCategory category, String search, int page, int size, Sort sort) {
+
+        static PageQuery of(WhiskeyCategory category, String search, Pageable pageable) {
+            String normalized = SearchText.normalize(search);
+            if (normalized.isEmpty()) {
+                normalized = null;
+            }
+            return pageable.isPaged()
+                    ? new PageQuery(category, normalized, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort())
+                    : new PageQuery(category, normalized, -1, -1, pageable.getSort());
+        }
+    }
+}
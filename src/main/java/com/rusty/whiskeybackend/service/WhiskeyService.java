@@ -3,27 +3,66 @@ package com.rusty.whiskeybackend.service;
 import com.rusty.whiskeybackend.domain.Pairing;
 import com.rusty.whiskeybackend.domain.Whiskey;
 import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeyTombstone;
 import com.rusty.whiskeybackend.dto.PairingDto;
+import com.rusty.whiskeybackend.dto.WhiskeyBatchDto;
+import com.rusty.whiskeybackend.dto.WhiskeyCursor;
+import com.rusty.whiskeybackend.dto.WhiskeyField;
+import com.rusty.whiskeybackend.dto.WhiskeyFacetsDto;
+import com.rusty.whiskeybackend.dto.WhiskeyFilterDto;
 import com.rusty.whiskeybackend.dto.WhiskeyRequestDto;
 import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.dto.WhiskeySliceDto;
+import com.rusty.whiskeybackend.dto.WhiskeySuggestionDto;
+import com.rusty.whiskeybackend.dto.WhiskeyVersion;
+import com.rusty.whiskeybackend.event.ImageReleasedEvent;
+import com.rusty.whiskeybackend.event.ImageStoredEvent;
+import com.rusty.whiskeybackend.event.ImageVariantsCreatedEvent;
+import com.rusty.whiskeybackend.event.WhiskeyChangedEvent;
+import com.rusty.whiskeybackend.image.ImageStore;
+import com.rusty.whiskeybackend.image.ImageVariant;
+import com.rusty.whiskeybackend.image.ImageVariantProcessor;
+import com.rusty.whiskeybackend.exception.BadRequestException;
 import com.rusty.whiskeybackend.exception.ResourceNotFoundException;
+import com.rusty.whiskeybackend.exception.ServiceUnavailableException;
+import com.rusty.whiskeybackend.index.CatalogIndexer;
+import com.rusty.whiskeybackend.index.CatalogVersion;
+import com.rusty.whiskeybackend.index.SearchText;
+import com.rusty.whiskeybackend.index.WhiskeyFacetIndex;
+import com.rusty.whiskeybackend.index.WhiskeyFilterIndex;
+import com.rusty.whiskeybackend.index.WhiskeyRangeIndex;
+import com.rusty.whiskeybackend.index.WhiskeySearchIndex;
+import com.rusty.whiskeybackend.index.WhiskeySimilarityIndex;
+import com.rusty.whiskeybackend.index.WhiskeySuggestIndex;
 import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import com.rusty.whiskeybackend.repository.WhiskeyTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,37 +70,366 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class WhiskeyService {
 
+    // 내보내기에서 한 번에 컬렉션을 초기화하고 영속성 컨텍스트를 비우는 단위
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    // 필터 인덱스가 돌려주는 순서 (문서 번호 역순 = 최신 등록순)
+    private static final Sort FILTER_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
     private final WhiskeyRepository whiskeyRepository;
-    private static final String UPLOAD_DIR = "uploads/images";
+    private final WhiskeyTombstoneRepository whiskeyTombstoneRepository;
+    private final CatalogIndexer catalogIndexer;
+    private final CatalogVersion catalogVersion;
+    private final WhiskeySearchIndex whiskeySearchIndex;
+    private final WhiskeySuggestIndex whiskeySuggestIndex;
+    private final WhiskeyFacetIndex whiskeyFacetIndex;
+    private final WhiskeyFilterIndex whiskeyFilterIndex;
+    private final WhiskeyRangeIndex whiskeyRangeIndex;
+    private final WhiskeySimilarityIndex whiskeySimilarityIndex;
+    private final ImageStore imageStore;
+    private final ImageVariantProcessor imageVariantProcessor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 전체 위스키 목록 조회 (필터링 및 검색 지원)
+     * 검색어가 있으면 인덱스 적재가 끝난 뒤부터 n-gram 검색 인덱스의 관련도 순으로 조회
      */
     public Page<WhiskeyResponseDto> findAll(WhiskeyCategory category, String search, Pageable pageable) {
+        if (search != null && !search.isBlank() && catalogIndexer.isReady()) {
+            return searchByIndex(category, search, pageable);
+        }
+
         Page<Whiskey> whiskeys;
 
         if (category != null && search != null && !search.isBlank()) {
-            whiskeys = whiskeyRepository.findByCategoryAndSearch(category, search, pageable);
+            whiskeys = whiskeyRepository.findByCategoryAndSearch(category, SearchText.normalize(search), pageable);
         } else if (category != null) {
             whiskeys = whiskeyRepository.findByCategory(category, pageable);
         } else if (search != null && !search.isBlank()) {
-            whiskeys = whiskeyRepository.searchByNameOrBrand(search, pageable);
+            whiskeys = whiskeyRepository.searchByText(SearchText.normalize(search), pageable);
         } else {
             whiskeys = whiskeyRepository.findAll(pageable);
         }
 
+        whiskeyRepository.fetchCollections(whiskeys.getContent());
         return whiskeys.map(this::convertToResponseDto);
     }
 
+    /**
+     * 다중 필터 목록 조회 (메모리 비트맵으로 조건을 조합한 뒤 해당 페이지의 id만 DB에서 조회)
+     * 최신 등록순(createdAt,desc)만 지원하며, 인덱스 적재 전에는 조건 없는 목록 대신 503
+     */
+    public Page<WhiskeyResponseDto> findAll(WhiskeyCategory category, String search, WhiskeyFilterDto filter,
+                                            Pageable pageable) {
+        if (filter == null || filter.isEmpty()) {
+            return findAll(category, search, pageable);
+        }
+
+        WhiskeyFilterIndex.Result result = filterIds(category, search, filter, pageable);
+        List<WhiskeyResponseDto> content = findAllByIdInOrder(result.ids()).stream()
+                .map(this::convertToResponseDto)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    /**
+     * 목록 조회 (fields에 지정한 필드만, 예: 카드 목록용 fields=summary)
+     * 인덱스로 고른 페이지는 id로, 그 외에는 같은 조건으로 필요한 컬럼만 조회하고 요청된 컬렉션만 읽음 (엔티티를 만들지 않음)
+     */
+    public Page<Map<String, Object>> findAll(WhiskeyCategory category, String search, WhiskeyFilterDto filter,
+                                             Pageable pageable, Set<WhiskeyField> fields) {
+        Set<WhiskeyField> selected = selectedFields(fields);
+        Page<Map<String, Object>> rows;
+        if (filter != null && !filter.isEmpty()) {
+            WhiskeyFilterIndex.Result result = filterIds(category, search, filter, pageable);
+            rows = new PageImpl<>(whiskeyRepository.findFieldsByIdInOrder(result.ids(), selected),
+                    pageable, result.total());
+        } else if (search != null && !search.isBlank() && catalogIndexer.isReady()) {
+            WhiskeySearchIndex.TopHits hits = searchPage(category, search, pageable);
+            rows = new PageImpl<>(whiskeyRepository.findFieldsByIdInOrder(ids(hits.hits()), selected),
+                    pageable, hits.total());
+        } else {
+            rows = whiskeyRepository.findFields(category, search, selected, pageable);
+        }
+        return rows.map(row -> toFields(row, fields));
+    }
+
+    private WhiskeyFilterIndex.Result filterIds(WhiskeyCategory category, String search, WhiskeyFilterDto filter,
+                                                Pageable pageable) {
+        if (!catalogIndexer.isReady()) {
+            throw new ServiceUnavailableException("검색 인덱스를 준비하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (pageable.getSort().isSorted() && !pageable.getSort().equals(FILTER_SORT)) {
+            throw new BadRequestException("다중 필터 목록은 최신 등록순(sort=createdAt,desc)만 지원합니다.");
+        }
+        return whiskeyFilterIndex.filter(candidateIds(search, filter), clauses(category, filter),
+                pageable.getOffset(), pageable.getPageSize());
+    }
+
+    /**
+     * 검색어와 범위 조건으로 좁힌 후보 id (둘 다 없으면 null = 전체)
+     */
+    private Collection<Long> candidateIds(String search, WhiskeyFilterDto filter) {
+        Collection<Long> candidates = null;
+        if (search != null && !search.isBlank()) {
+            candidates = whiskeySearchIndex.matchingIds(search, null);
+        }
+        if (filter.hasRange()) {
+            Map<WhiskeyRangeIndex.Attribute, WhiskeyRangeIndex.Range> ranges = new EnumMap<>(WhiskeyRangeIndex.Attribute.class);
+            ranges.put(WhiskeyRangeIndex.Attribute.ABV, new WhiskeyRangeIndex.Range(filter.getMinAbv(), filter.getMaxAbv()));
+            ranges.put(WhiskeyRangeIndex.Attribute.STAR_POINT, new WhiskeyRangeIndex.Range(filter.getMinStar(), null));
+            ranges.put(WhiskeyRangeIndex.Attribute.VOLUME, new WhiskeyRangeIndex.Range(filter.getMinVolume(), filter.getMaxVolume()));
+            candidates = whiskeyRangeIndex.filter(candidates, ranges);
+        }
+        return candidates;
+    }
+
+    /**
+     * 비트맵 필터 조건 (category 파라미터는 종류 조건에 더함)
+     */
+    private static Map<WhiskeyFilterIndex.Dimension, List<String>> clauses(WhiskeyCategory category,
+                                                                           WhiskeyFilterDto filter) {
+        Map<WhiskeyFilterIndex.Dimension, List<String>> clauses = new EnumMap<>(WhiskeyFilterIndex.Dimension.class);
+        if (category != null) {
+            clauses.put(WhiskeyFilterIndex.Dimension.CATEGORY, List.of(category.name()));
+        }
+        putClauses(clauses, WhiskeyFilterIndex.Dimension.CATEGORY, filter.getCategories());
+        putClauses(clauses, WhiskeyFilterIndex.Dimension.SUB_CATEGORY, filter.getSubCategory());
+        putClauses(clauses, WhiskeyFilterIndex.Dimension.NATION, filter.getNation());
+        putClauses(clauses, WhiskeyFilterIndex.Dimension.REGION, filter.getRegion());
+        putClauses(clauses, WhiskeyFilterIndex.Dimension.FLAVOR_TAG, filter.getFlavorTag());
+        return clauses;
+    }
+
+    /**
+     * 별점 상위 limit개 조회 (정렬된 별점 인덱스의 끝에서부터 읽음, 별점이 없는 위스키는 제외)
+     */
+    public List<WhiskeyResponseDto> findTopRated(WhiskeyCategory category, int limit) {
+        return findAllByIdInOrder(topRatedIds(category, limit)).stream()
+                .map(this::convertToResponseDto)
+                .toList();
+    }
+
+    /**
+     * 별점 상위 limit개 조회 (fields에 지정한 필드만)
+     */
+    public List<Map<String, Object>> findTopRated(WhiskeyCategory category, int limit, Set<WhiskeyField> fields) {
+        return whiskeyRepository.findFieldsByIdInOrder(topRatedIds(category, limit), selectedFields(fields)).stream()
+                .map(row -> toFields(row, fields))
+                .toList();
+    }
+
+    private List<Long> topRatedIds(WhiskeyCategory category, int limit) {
+        if (catalogIndexer.isReady()) {
+            return whiskeyRangeIndex.top(WhiskeyRangeIndex.Attribute.STAR_POINT, category, limit);
+        }
+        return whiskeyRepository.findTopRatedIds(category, Limit.of(limit));
+    }
+
+    /**
+     * 향미 프로필이 비슷한 위스키 조회 (인덱스 적재 전에는 빈 목록)
+     */
+    public List<WhiskeyResponseDto> findSimilar(Long id, int limit) {
+        if (!whiskeySimilarityIndex.contains(id) && !whiskeyRepository.existsById(id)) {
+            throw new ResourceNotFoundException("위스키를 찾을 수 없습니다. ID: " + id);
+        }
+        List<Long> ids = whiskeySimilarityIndex.similar(id, limit).stream()
+                .map(WhiskeySimilarityIndex.Neighbor::id)
+                .toList();
+        return findAllByIdInOrder(ids).stream()
+                .map(this::convertToResponseDto)
+                .toList();
+    }
+
+    /**
+     * 커서 기반 목록 조회 (createdAt DESC, id DESC 고정 정렬, count 쿼리 없이 size + 1개만 조회)
+     */
+    public WhiskeySliceDto<WhiskeyResponseDto> scroll(WhiskeyCategory category, String search, String cursor, int size) {
+        WhiskeyCursor after = WhiskeyCursor.decode(cursor);
+        if (search != null && !search.isBlank() && catalogIndexer.isReady()) {
+            List<WhiskeySearchIndex.Hit> hits = scrollSearchHits(category, search, after, size + 1);
+            boolean hasNext = hits.size() > size;
+            List<WhiskeySearchIndex.Hit> page = hasNext ? hits.subList(0, size) : hits;
+            List<WhiskeyResponseDto> content = findAllByIdInOrder(ids(page)).stream()
+                    .map(this::convertToResponseDto)
+                    .toList();
+            return new WhiskeySliceDto<>(content, content.size(), hasNext, hasNext ? nextCursor(page) : null);
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<Whiskey> whiskeys;
+        if (search != null && !search.isBlank()) {
+            whiskeys = whiskeyRepository.searchNextPage(category, SearchText.normalize(search), after.createdAt(), after.id(),
+                    limit);
+        } else if (category != null) {
+            whiskeys = whiskeyRepository.findNextPageByCategory(category, after.createdAt(), after.id(), limit);
+        } else {
+            whiskeys = whiskeyRepository.findNextPage(after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = whiskeys.size() > size;
+        List<Whiskey> content = hasNext ? whiskeys.subList(0, size) : whiskeys;
+        whiskeyRepository.fetchCollections(content);
+
+        String nextCursor = null;
+        if (hasNext) {
+            Whiskey last = content.get(content.size() - 1);
+            nextCursor = new WhiskeyCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new WhiskeySliceDto<>(content.stream().map(this::convertToResponseDto).toList(),
+                content.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * 커서 기반 목록 조회 (fields에 지정한 필드만, 커서를 만들 createdAt은 요청하지 않아도 함께 조회)
+     */
+    public WhiskeySliceDto<Map<String, Object>> scroll(WhiskeyCategory category, String search, String cursor, int size,
+                                                       Set<WhiskeyField> fields) {
+        WhiskeyCursor after = WhiskeyCursor.decode(cursor);
+        Set<WhiskeyField> selected = selectedFields(fields);
+        selected.add(WhiskeyField.CREATED_AT);
+        if (search != null && !search.isBlank() && catalogIndexer.isReady()) {
+            List<WhiskeySearchIndex.Hit> hits = scrollSearchHits(category, search, after, size + 1);
+            boolean hasNext = hits.size() > size;
+            List<WhiskeySearchIndex.Hit> page = hasNext ? hits.subList(0, size) : hits;
+            List<Map<String, Object>> content = whiskeyRepository.findFieldsByIdInOrder(ids(page), selected).stream()
+                    .map(row -> toFields(row, fields))
+                    .toList();
+            return new WhiskeySliceDto<>(content, content.size(), hasNext, hasNext ? nextCursor(page) : null);
+        }
+
+        List<Map<String, Object>> rows = whiskeyRepository.findFieldsAfter(category, search, after, selected, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Map<String, Object>> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Map<String, Object> last = content.get(content.size() - 1);
+            nextCursor = new WhiskeyCursor((Long) last.get(WhiskeyField.CREATED_AT.getProperty()),
+                    (Long) last.get(WhiskeyField.ID.getProperty())).encode();
+        }
+        return new WhiskeySliceDto<>(content.stream().map(row -> toFields(row, fields)).toList(),
+                content.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * 검색 인덱스 결과 중 커서 다음 limit개 (createdAt DESC, id DESC)
+     * 다음 페이지 여부와 커서는 이 결과로 정함 (인덱스 조회 후 DB 조회 전에 삭제된 행이 빠져도 페이지가 끝난 것으로 보지 않도록)
+     */
+    private List<WhiskeySearchIndex.Hit> scrollSearchHits(WhiskeyCategory category, String search, WhiskeyCursor after,
+                                                          int limit) {
+        return whiskeySearchIndex.newest(search, category, hit -> after.comesBefore(hit.createdAt(), hit.id()), limit);
+    }
+
+    private static String nextCursor(List<WhiskeySearchIndex.Hit> page) {
+        WhiskeySearchIndex.Hit last = page.get(page.size() - 1);
+        return new WhiskeyCursor(last.createdAt(), last.id()).encode();
+    }
+
+    /**
+     * 자동완성 (메모리 인덱스만 사용하므로 트랜잭션/커넥션 없이 조회)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<WhiskeySuggestionDto> suggest(String query, int limit) {
+        return whiskeySuggestIndex.suggest(query, limit).stream()
+                .map(s -> new WhiskeySuggestionDto(s.id(), s.name(), s.englishName(), s.brand()))
+                .toList();
+    }
+
+    /**
+     * 카테고리/특성/플레이버 태그별 개수 (메모리 인덱스만 사용하므로 트랜잭션/커넥션 없이 조회)
+     * 목록과 같은 검색어/필터 조건으로 집계하고, category는 카테고리별 개수에서만 제외
+     * 인덱스 적재 전에는 개수가 틀리므로 503
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public WhiskeyFacetsDto facets(WhiskeyCategory category, String search, WhiskeyFilterDto filter) {
+        if (!catalogIndexer.isReady()) {
+            throw new ServiceUnavailableException("검색 인덱스를 준비하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        WhiskeyFacetIndex.Facets facets;
+        if (filter != null && !filter.isEmpty()) {
+            List<Long> ids = whiskeyFilterIndex.matchingIds(candidateIds(search, filter), clauses(null, filter));
+            facets = whiskeyFacetIndex.facets(category, ids);
+        } else if (search != null && !search.isBlank()) {
+            List<Long> ids = whiskeySearchIndex.matchingIds(search, null);
+            facets = whiskeyFacetIndex.facets(category, ids);
+        } else {
+            facets = whiskeyFacetIndex.facets(category);
+        }
+        return new WhiskeyFacetsDto(facets.total(), facets.categories(), facets.subCategories(), facets.flavorTags());
+    }
+
+    /**
+     * 상세 응답 검증용 버전 조회 (엔티티/컬렉션을 읽지 않음)
+     */
+    public WhiskeyVersion findVersion(Long id) {
+        return whiskeyRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("위스키를 찾을 수 없습니다. ID: " + id));
+    }
+
+    /**
+     * 상세 응답의 ETag (파생 이미지 등록 후 updatedAt 갱신이 커밋되기 전에도 바뀌도록 생성된 파생 이미지 수도 포함)
+     */
+    public String eTag(WhiskeyVersion version) {
+        return weakETag(version.id() + "-" + version.updatedAt() + "-"
+                + imageVariantProcessor.variantUrls(version.imageDataUrl()).size());
+    }
+
+    /**
+     * 목록 응답의 ETag (카탈로그 전체 버전, 목록을 읽기 전에 가져와야 함)
+     */
+    public String catalogETag() {
+        return weakETag(catalogVersion.current());
+    }
+
+    /**
+     * 같은 데이터라도 JSON/Smile/CBOR와 gzip 여부에 따라 바이트가 다르므로 약한 ETag
+     */
+    private static String weakETag(String value) {
+        return "W/\"" + value + "\"";
+    }
+
     /**
      * ID로 위스키 조회
      */
     public WhiskeyResponseDto findById(Long id) {
         Whiskey whiskey = whiskeyRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("위스키를 찾을 수 없습니다. ID: " + id));
+        whiskeyRepository.fetchCollections(List.of(whiskey));
         return convertToResponseDto(whiskey);
     }
 
+    /**
+     * 전체 위스키를 id 순으로 하나씩 넘겨줌 (내보내기용)
+     * 한 트랜잭션에서 id 순 커서 하나로 읽으므로 OFFSET 페이징처럼 도중의 추가/삭제로 항목이 밀리거나 중복되지 않음
+     * (MySQL 기본 격리 수준 REPEATABLE READ에서는 트랜잭션 시작 시점의 스냅샷)
+     */
+    public void exportAll(Consumer<WhiskeyResponseDto> action) {
+        whiskeyRepository.forEachChunk(EXPORT_CHUNK_SIZE,
+                whiskeys -> whiskeys.forEach(whiskey -> action.accept(convertToResponseDto(whiskey))));
+    }
+
+    /**
+     * id 목록 순서대로 조회 (없는 id는 제외)
+     */
+    public List<WhiskeyResponseDto> findAllById(List<Long> ids) {
+        return findAllByIdInOrder(ids).stream()
+                .map(this::convertToResponseDto)
+                .toList();
+    }
+
+    /**
+     * 여러 위스키 일괄 조회 (중복 id는 한 번만, 영속성 컨텍스트/2차 캐시 먼저 확인 후 위스키 1번 + 컬렉션 최대 3번 쿼리)
+     */
+    public WhiskeyBatchDto findBatch(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<WhiskeyResponseDto> whiskeys = findAllById(distinctIds);
+
+        Set<Long> found = whiskeys.stream().map(WhiskeyResponseDto::getId).collect(Collectors.toSet());
+        List<Long> missingIds = distinctIds.stream().filter(id -> !found.contains(id)).toList();
+        return new WhiskeyBatchDto(whiskeys, missingIds);
+    }
+
     /**
      * 위스키 생성
      */
@@ -71,14 +439,38 @@ public class WhiskeyService {
 
         // 이미지 처리
         if (image != null && !image.isEmpty()) {
-            String imageUrl = saveImage(image);
+            String imageUrl = saveImage(() -> imageStore.store(image));
             whiskey.setImageDataUrl(imageUrl);
+        } else if (ImageStore.isDataUrl(whiskey.getImageDataUrl())) {
+            // data URL은 파일로 저장하고 짧은 URL만 보관
+            whiskey.setImageDataUrl(saveDataUrl(whiskey.getImageDataUrl()));
         }
 
         Whiskey savedWhiskey = whiskeyRepository.save(whiskey);
+        eventPublisher.publishEvent(WhiskeyChangedEvent.created(savedWhiskey.getId()));
         return convertToResponseDto(savedWhiskey);
     }
 
+    /**
+     * 위스키 일괄 생성 (한 트랜잭션에서 JDBC 배치로 insert, 생성된 id를 입력 순서대로 반환)
+     */
+    @Transactional
+    public List<Long> createAll(List<WhiskeyRequestDto> requestDtos) {
+        List<Whiskey> whiskeys = new ArrayList<>(requestDtos.size());
+        for (WhiskeyRequestDto requestDto : requestDtos) {
+            Whiskey whiskey = convertToEntity(requestDto);
+            if (ImageStore.isDataUrl(whiskey.getImageDataUrl())) {
+                whiskey.setImageDataUrl(saveDataUrl(whiskey.getImageDataUrl()));
+            }
+            whiskeys.add(whiskey);
+        }
+        whiskeyRepository.saveAll(whiskeys);
+
+        List<Long> ids = whiskeys.stream().map(Whiskey::getId).toList();
+        eventPublisher.publishEvent(WhiskeyChangedEvent.created(ids));
+        return ids;
+    }
+
     /**
      * 위스키 수정
      */
@@ -100,11 +492,18 @@ public class WhiskeyService {
                 deleteImage(existingImageUrl);
             }
             // 새 이미지 저장
-            String imageUrl = saveImage(image);
+            String imageUrl = saveImage(() -> imageStore.store(image));
             whiskey.setImageDataUrl(imageUrl);
+        } else if (ImageStore.isDataUrl(requestDto.getImageDataUrl())) {
+            // data URL은 파일로 저장하고 짧은 URL만 보관
+            if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
+                deleteImage(existingImageUrl);
+            }
+            whiskey.setImageDataUrl(saveDataUrl(requestDto.getImageDataUrl()));
         }
 
         Whiskey updatedWhiskey = whiskeyRepository.save(whiskey);
+        eventPublisher.publishEvent(WhiskeyChangedEvent.updated(id));
         return convertToResponseDto(updatedWhiskey);
     }
 
@@ -122,27 +521,27 @@ public class WhiskeyService {
         }
 
         whiskeyRepository.delete(whiskey);
+        // 변경 피드에서 삭제를 알 수 있도록 기록 (보존 기간 후 WhiskeyChangeFeed가 정리)
+        whiskeyTombstoneRepository.save(new WhiskeyTombstone(id, System.currentTimeMillis()));
+        eventPublisher.publishEvent(WhiskeyChangedEvent.deleted(id));
     }
 
     /**
      * 이미지 업로드
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String uploadImage(Long id, MultipartFile image) {
-        Whiskey whiskey = whiskeyRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("위스키를 찾을 수 없습니다. ID: " + id));
-
-        // 기존 이미지 삭제
-        if (whiskey.getImageDataUrl() != null && !whiskey.getImageDataUrl().isEmpty()) {
-            deleteImage(whiskey.getImageDataUrl());
-        }
-
-        // 새 이미지 저장
-        String imageUrl = saveImage(image);
-        whiskey.setImageDataUrl(imageUrl);
-        whiskeyRepository.save(whiskey);
+        return replaceImage(id, () -> imageStore.store(image));
+    }
 
-        return imageUrl;
+    /**
+     * 이미지 업로드 (요청 본문 스트림을 그대로 저장)
+     *
+     * @param contentLength 요청 헤더의 길이 (모르면 -1)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String uploadImage(Long id, InputStream image, long contentLength) {
+        return replaceImage(id, () -> imageStore.store(image, contentLength));
     }
 
     /**
@@ -157,11 +556,61 @@ public class WhiskeyService {
             deleteImage(whiskey.getImageDataUrl());
             whiskey.setImageDataUrl(null);
             whiskeyRepository.save(whiskey);
+            eventPublisher.publishEvent(WhiskeyChangedEvent.updated(id));
+        }
+    }
+
+    /**
+     * 파생 이미지가 생성되면 그 이미지를 쓰는 위스키의 updatedAt 갱신
+     * 응답의 썸네일 URL이 바뀐 것이므로 변경 피드/SSE가 이 변경을 다시 전달하도록 함
+     */
+    @EventListener
+    @Transactional
+    public void onImageVariantsCreated(ImageVariantsCreatedEvent event) {
+        List<Whiskey> whiskeys = whiskeyRepository.findByImageDataUrl(event.imageUrl());
+        if (whiskeys.isEmpty()) {
+            return;
         }
+        long now = System.currentTimeMillis();
+        whiskeys.forEach(whiskey -> whiskey.setUpdatedAt(now));
+        eventPublisher.publishEvent(WhiskeyChangedEvent.updated(whiskeys.stream().map(Whiskey::getId).toList()));
     }
 
     // === Private Helper Methods ===
 
+    private Page<WhiskeyResponseDto> searchByIndex(WhiskeyCategory category, String search, Pageable pageable) {
+        WhiskeySearchIndex.TopHits hits = searchPage(category, search, pageable);
+        List<WhiskeyResponseDto> content = findAllByIdInOrder(ids(hits.hits())).stream()
+                .map(this::convertToResponseDto)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    /**
+     * 검색 인덱스에서 요청한 페이지 구간만 관련도 순으로 (일치 전체를 정렬하지 않음)
+     */
+    private WhiskeySearchIndex.TopHits searchPage(WhiskeyCategory category, String search, Pageable pageable) {
+        return whiskeySearchIndex.search(search, category, pageable.getOffset(), pageable.getPageSize());
+    }
+
+    private static List<Long> ids(List<WhiskeySearchIndex.Hit> hits) {
+        return hits.stream().map(WhiskeySearchIndex.Hit::id).toList();
+    }
+
+    private static void putClauses(Map<WhiskeyFilterIndex.Dimension, List<String>> clauses,
+                                   WhiskeyFilterIndex.Dimension dimension, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            clauses.computeIfAbsent(dimension, key -> new ArrayList<>()).addAll(values);
+        }
+    }
+
+    /**
+     * id 목록 순서대로 위스키 조회 (없는 id는 제외, 컬렉션까지 일괄 로딩)
+     */
+    private List<Whiskey> findAllByIdInOrder(List<Long> ids) {
+        return whiskeyRepository.fetchCollections(whiskeyRepository.findAllByIdInOrder(ids));
+    }
+
     private Whiskey convertToEntity(WhiskeyRequestDto dto) {
         List<Pairing> pairings = dto.getPairings() != null ? 
                 dto.getPairings().stream()
@@ -195,7 +644,7 @@ public class WhiskeyService {
         whiskey.setEnglishName(dto.getEnglishName());
         whiskey.setBrand(dto.getBrand());
         whiskey.setCategory(dto.getCategory());
-        whiskey.setSubCategories(dto.getSubCategories() != null ? dto.getSubCategories() : List.of());
+        whiskey.setSubCategories(dto.getSubCategories() != null ? new ArrayList<>(dto.getSubCategories()) : new ArrayList<>());
         whiskey.setAbv(dto.getAbv());
         whiskey.setVolume(dto.getVolume());
         whiskey.setNation(dto.getNation());
@@ -214,7 +663,43 @@ public class WhiskeyService {
             whiskey.setPairings(pairings);
         }
 
-        whiskey.setFlavorTags(dto.getFlavorTags() != null ? dto.getFlavorTags() : List.of());
+        whiskey.setFlavorTags(dto.getFlavorTags() != null ? new ArrayList<>(dto.getFlavorTags()) : new ArrayList<>());
+    }
+
+    /**
+     * 조회할 필드 (id는 항상, 썸네일 등 파생 이미지 URL을 요청하면 원본 URL도 함께 조회)
+     */
+    private static Set<WhiskeyField> selectedFields(Set<WhiskeyField> fields) {
+        Set<WhiskeyField> selected = EnumSet.copyOf(fields);
+        selected.add(WhiskeyField.ID);
+        if (selected.contains(WhiskeyField.THUMBNAIL_URL) || selected.contains(WhiskeyField.MEDIUM_IMAGE_URL)) {
+            selected.add(WhiskeyField.IMAGE_DATA_URL);
+        }
+        return selected;
+    }
+
+    /**
+     * 조회한 행을 요청된 필드만 남긴 응답으로 (필드 순서는 WhiskeyResponseDto와 같음)
+     */
+    private Map<String, Object> toFields(Map<String, Object> row, Set<WhiskeyField> fields) {
+        Map<ImageVariant, String> variants = Map.of();
+        if (fields.contains(WhiskeyField.THUMBNAIL_URL) || fields.contains(WhiskeyField.MEDIUM_IMAGE_URL)) {
+            variants = imageVariantProcessor.variantUrls((String) row.get(WhiskeyField.IMAGE_DATA_URL.getProperty()));
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (WhiskeyField field : fields) {
+            Object value = switch (field) {
+                case THUMBNAIL_URL -> variants.get(ImageVariant.THUMBNAIL);
+                case MEDIUM_IMAGE_URL -> variants.get(ImageVariant.MEDIUM);
+                case PAIRINGS -> ((List<?>) row.get(field.getProperty())).stream()
+                        .map(Pairing.class::cast)
+                        .map(p -> new PairingDto(p.getIcon(), p.getName()))
+                        .toList();
+                default -> row.get(field.getProperty());
+            };
+            response.put(field.getProperty(), value);
+        }
+        return response;
     }
 
     private WhiskeyResponseDto convertToResponseDto(Whiskey whiskey) {
@@ -222,6 +707,7 @@ public class WhiskeyService {
                 whiskey.getPairings().stream()
                         .map(p -> new PairingDto(p.getIcon(), p.getName()))
                         .collect(Collectors.toList()) : List.of();
+        Map<ImageVariant, String> variants = imageVariantProcessor.variantUrls(whiskey.getImageDataUrl());
 
         return WhiskeyResponseDto.builder()
                 .id(whiskey.getId())
@@ -235,6 +721,8 @@ public class WhiskeyService {
                 .nation(whiskey.getNation())
                 .region(whiskey.getRegion())
                 .imageDataUrl(whiskey.getImageDataUrl())
+                .thumbnailUrl(variants.get(ImageVariant.THUMBNAIL))
+                .mediumImageUrl(variants.get(ImageVariant.MEDIUM))
                 .notes(whiskey.getNotes())
                 .nose(whiskey.getNose())
                 .palate(whiskey.getPalate())
@@ -248,40 +736,61 @@ public class WhiskeyService {
                 .build();
     }
 
-    private String saveImage(MultipartFile image) {
-        try {
-            // 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+    /**
+     * 업로드를 받는 동안 DB 연결을 잡지 않도록 파일을 먼저 저장한 뒤 짧은 트랜잭션으로 교체
+     * 교체가 실패하면 롤백 후 새 파일은 참조가 없으므로 정리됨
+     */
+    private String replaceImage(Long id, ImageUpload upload) {
+        if (!whiskeyRepository.existsById(id)) {
+            throw new ResourceNotFoundException("위스키를 찾을 수 없습니다. ID: " + id);
+        }
+        String imageUrl = storeImage(upload);
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new ImageStoredEvent(imageUrl));
+            Whiskey whiskey = whiskeyRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("위스키를 찾을 수 없습니다. ID: " + id));
+
+            // 기존 이미지 삭제
+            if (whiskey.getImageDataUrl() != null && !whiskey.getImageDataUrl().isEmpty()) {
+                deleteImage(whiskey.getImageDataUrl());
             }
 
-            // 고유한 파일명 생성
-            String originalFilename = image.getOriginalFilename();
-            String extension = originalFilename != null && originalFilename.contains(".") ?
-                    originalFilename.substring(originalFilename.lastIndexOf(".")) : "";
-            String filename = UUID.randomUUID().toString() + extension;
+            whiskey.setImageDataUrl(imageUrl);
+            whiskeyRepository.save(whiskey);
+            eventPublisher.publishEvent(WhiskeyChangedEvent.updated(id));
+        });
+        return imageUrl;
+    }
+
+    /**
+     * 업로드 방식(multipart/요청 본문)에 따른 저장 동작
+     */
+    @FunctionalInterface
+    private interface ImageUpload {
+        String store() throws IOException;
+    }
+
+    private String saveImage(ImageUpload upload) {
+        // 내용 해시로 저장 (같은 이미지는 한 번만 저장), 썸네일 등은 커밋 후 백그라운드에서 생성
+        String imageUrl = storeImage(upload);
+        eventPublisher.publishEvent(new ImageStoredEvent(imageUrl));
+        return imageUrl;
+    }
 
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    private String saveDataUrl(String dataUrl) {
+        return saveImage(() -> imageStore.storeDataUrl(dataUrl));
+    }
 
-            return "/images/" + filename;
+    private String storeImage(ImageUpload upload) {
+        try {
+            return upload.store();
         } catch (IOException e) {
             throw new RuntimeException("이미지 저장 중 오류가 발생했습니다.", e);
         }
     }
 
     private void deleteImage(String imageUrl) {
-        try {
-            if (imageUrl.startsWith("/images/")) {
-                String filename = imageUrl.substring("/images/".length());
-                Path filePath = Paths.get(UPLOAD_DIR).resolve(filename);
-                Files.deleteIfExists(filePath);
-            }
-        } catch (IOException e) {
-            // 로그 기록하고 계속 진행
-            System.err.println("이미지 삭제 중 오류: " + e.getMessage());
-        }
+        // 다른 위스키가 같은 이미지를 참조할 수 있으므로 커밋 후 참조 수를 확인해 삭제
+        eventPublisher.publishEvent(new ImageReleasedEvent(imageUrl));
     }
 }
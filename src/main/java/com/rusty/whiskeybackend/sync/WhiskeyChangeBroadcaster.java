@@ -0,0 +1,219 @@
+package com.rusty.whiskeybackend.sync;
+
+import com.rusty.whiskeybackend.event.WhiskeyChangedEvent;
+import com.rusty.whiskeybackend.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 위스키 변경 SSE 중계
+ * 구독자마다 가상 스레드 하나가 자기 버퍼를 비우며 전송하므로, 커밋 후 이벤트를 넘기는 쪽은 네트워크 쓰기를 기다리지 않음
+ * 대기 중인 구독자는 비동기 요청 + 멈춰 있는 가상 스레드뿐이라 수만 개를 유지해도 플랫폼 스레드를 점유하지 않음
+ * 버퍼는 id별로 합쳐지고(같은 id의 반복 수정은 한 번), 서로 다른 id가 bufferSize를 넘게 쌓이면 느린 구독자로 보고 연결을 끊음
+ * (끊긴 클라이언트는 재연결 후 변경 피드 /api/whiskeys/changes로 놓친 변경을 받음)
+ */
+@Component
+@Slf4j
+public class WhiskeyChangeBroadcaster {
+
+    static final String EVENT_NAME = "whiskey";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadFactory drainThreads = Thread.ofVirtual().name("whiskey-sse-", 0).factory();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Duration heartbeat;
+
+    public WhiskeyChangeBroadcaster(@Value("${whiskey.stream.max-subscribers:20000}") int maxSubscribers,
+                                    @Value("${whiskey.stream.buffer-size:256}") int bufferSize,
+                                    @Value("${whiskey.stream.timeout:PT30M}") Duration timeout,
+                                    @Value("${whiskey.stream.heartbeat:PT30S}") Duration heartbeat) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * 새 구독 (timeout이 지나면 응답을 끝내고 EventSource가 다시 연결)
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()));
+        subscribers.add(subscriber);
+        subscriber.emitter.onCompletion(subscriber::close);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(error -> subscriber.close());
+        drainThreads.newThread(subscriber::drain).start();
+        return subscriber.emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 커밋된 변경을 모든 구독자 버퍼에 넣음 (버퍼에 넣기만 하고 바로 반환)
+     */
+    @TransactionalEventListener
+    public void onWhiskeyChanged(WhiskeyChangedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * 종료 시 열린 스트림을 먼저 끝냄 (그러지 않으면 graceful shutdown이 끝나지 않는 요청으로 보고 제한 시간까지 기다림)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * 전송할 변경 (type별 id 묶음)
+     */
+    record Message(WhiskeyChangedEvent.ChangeType type, List<Long> ids) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        // id -> 마지막 변경 종류 (도착 순서 유지)
+        private LinkedHashMap<Long, WhiskeyChangedEvent.ChangeType> pending = new LinkedHashMap<>();
+        private boolean closed;
+        private boolean overflowed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(WhiskeyChangedEvent event) {
+            lock.lock();
+            try {
+                if (closed || overflowed) {
+                    return;
+                }
+                for (Long id : event.ids()) {
+                    WhiskeyChangedEvent.ChangeType previous = pending.get(id);
+                    if (previous == null && pending.size() >= bufferSize) {
+                        // 버퍼를 바로 놓아 주고, 응답은 전송 스레드가 진행 중인 쓰기를 마친 뒤 끝냄
+                        overflowed = true;
+                        pending.clear();
+                        subscribers.remove(this);
+                        break;
+                    }
+                    pending.put(id, coalesce(previous, event.type()));
+                }
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void drain() {
+            try {
+                emitter.send(SseEmitter.event().comment("connected"));
+                while (true) {
+                    Map<Long, WhiskeyChangedEvent.ChangeType> batch;
+                    lock.lock();
+                    try {
+                        long waitNanos = heartbeat.toNanos();
+                        while (pending.isEmpty() && !closed && !overflowed && waitNanos > 0) {
+                            waitNanos = changed.awaitNanos(waitNanos);
+                        }
+                        if (closed) {
+                            return;
+                        }
+                        if (overflowed) {
+                            break;
+                        }
+                        batch = pending;
+                        pending = new LinkedHashMap<>();
+                    } finally {
+                        lock.unlock();
+                    }
+
+                    if (batch.isEmpty()) {
+                        // 중간 프록시가 유휴 연결을 끊지 않게 하고, 끊긴 연결을 찾아냄
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        for (Message message : group(batch)) {
+                            emitter.send(SseEmitter.event()
+                                    .id(Long.toString(eventIds.incrementAndGet()))
+                                    .name(EVENT_NAME)
+                                    .data(message, MediaType.APPLICATION_JSON));
+                        }
+                    }
+                }
+                log.debug("느린 SSE 구독자 연결 종료 (버퍼 {}건 초과)", bufferSize);
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 응답이 이미 끝남 (오류 응답을 쓸 수 없으므로 정리만)
+                emitter.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                pending.clear();
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+            subscribers.remove(this);
+        }
+    }
+
+    /**
+     * 같은 id의 연속된 변경을 하나로 (생성 후 수정은 생성, 삭제는 항상 삭제)
+     */
+    static WhiskeyChangedEvent.ChangeType coalesce(WhiskeyChangedEvent.ChangeType previous,
+                                                  WhiskeyChangedEvent.ChangeType next) {
+        if (previous == WhiskeyChangedEvent.ChangeType.CREATED && next == WhiskeyChangedEvent.ChangeType.UPDATED) {
+            return WhiskeyChangedEvent.ChangeType.CREATED;
+        }
+        return next;
+    }
+
+    static List<Message> group(Map<Long, WhiskeyChangedEvent.ChangeType> batch) {
+        Map<WhiskeyChangedEvent.ChangeType, List<Long>> ids = new EnumMap<>(WhiskeyChangedEvent.ChangeType.class);
+        batch.forEach((id, type) -> ids.computeIfAbsent(type, key -> new ArrayList<>()).add(id));
+        List<Message> messages = new ArrayList<>(ids.size());
+        ids.forEach((type, typeIds) -> messages.add(new Message(type, typeIds)));
+        return messages;
+    }
+}
@@ -0,0 +1,117 @@
+package com.rusty.whiskeybackend.sync;
+
+import com.rusty.whiskeybackend.dto.WhiskeyChange;
+import com.rusty.whiskeybackend.dto.WhiskeyChangeToken;
+import com.rusty.whiskeybackend.dto.WhiskeyChangesDto;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import com.rusty.whiskeybackend.repository.WhiskeyTombstoneRepository;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변경 피드 (클라이언트 증분 동기화)
+ * updatedAt과 삭제 기록(tombstone)을 (시각, id) 순으로 합쳐 토큰 이후의 변경만 돌려주므로
+ * 응답 크기와 조회 비용이 전체 목록이 아니라 변경된 건수에 비례
+ * 아직 커밋 중일 수 있는 최근 settleTime 안의 변경은 다음 요청으로 미뤄서 토큰이 커밋 전 변경을 건너뛰지 않게 함
+ */
+@Component
+@Slf4j
+public class WhiskeyChangeFeed {
+
+    private final WhiskeyRepository whiskeyRepository;
+    private final WhiskeyTombstoneRepository whiskeyTombstoneRepository;
+    private final WhiskeyService whiskeyService;
+    private final Duration settleTime;
+    private final Duration retention;
+
+    public WhiskeyChangeFeed(WhiskeyRepository whiskeyRepository, WhiskeyTombstoneRepository whiskeyTombstoneRepository,
+                             WhiskeyService whiskeyService,
+                             @Value("${whiskey.sync.settle-time:PT10S}") Duration settleTime,
+                             @Value("${whiskey.sync.tombstone-retention:P30D}") Duration retention) {
+        this.whiskeyRepository = whiskeyRepository;
+        this.whiskeyTombstoneRepository = whiskeyTombstoneRepository;
+        this.whiskeyService = whiskeyService;
+        this.settleTime = settleTime;
+        this.retention = retention;
+    }
+
+    /**
+     * since 토큰 이후 변경 최대 limit건 (토큰이 없으면 처음부터 전체)
+     */
+    @Transactional(readOnly = true)
+    public WhiskeyChangesDto changes(String since, int limit) {
+        long now = System.currentTimeMillis();
+        WhiskeyChangeToken after = WhiskeyChangeToken.decode(since);
+
+        // 삭제 기록이 이미 정리된 구간이면 삭제를 놓칠 수 있으므로 처음부터 다시 보냄
+        boolean reset = !after.equals(WhiskeyChangeToken.FIRST) && after.changedAt() < now - retention.toMillis();
+        if (reset) {
+            after = WhiskeyChangeToken.FIRST;
+        }
+
+        long until = now - settleTime.toMillis();
+        List<WhiskeyChange> upserts = whiskeyRepository.findChanges(after.changedAt(), after.id(), until, Limit.of(limit + 1));
+        List<WhiskeyChange> deletions = whiskeyTombstoneRepository.findChanges(after.changedAt(), after.id(), until, Limit.of(limit + 1));
+
+        // 두 목록을 (시각, id) 순으로 합쳐 앞에서부터 limit건
+        List<Long> upsertIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        WhiskeyChangeToken last = after;
+        int u = 0;
+        int d = 0;
+        while (upsertIds.size() + deletedIds.size() < limit && (u < upserts.size() || d < deletions.size())) {
+            WhiskeyChange change;
+            if (d >= deletions.size() || (u < upserts.size()
+                    && WhiskeyChangeToken.of(upserts.get(u)).isBefore(WhiskeyChangeToken.of(deletions.get(d))))) {
+                change = upserts.get(u++);
+                upsertIds.add(change.id());
+            } else {
+                change = deletions.get(d++);
+                deletedIds.add(change.id());
+            }
+            last = WhiskeyChangeToken.of(change);
+        }
+
+        boolean hasMore = u < upserts.size() || d < deletions.size();
+        if (!hasMore) {
+            // until 전 변경은 모두 받았으므로 변경이 없어도 토큰을 앞으로 옮겨 보존 기간 만료로 인한 재동기화를 피함
+            WhiskeyChangeToken settled = new WhiskeyChangeToken(until - 1, Long.MAX_VALUE);
+            if (last.isBefore(settled)) {
+                last = settled;
+            }
+        }
+
+        List<WhiskeyResponseDto> whiskeys = whiskeyService.findAllById(upsertIds);
+        return WhiskeyChangesDto.builder()
+                .reset(reset)
+                .upserts(whiskeys)
+                .deletedIds(deletedIds)
+                .hasMore(hasMore)
+                .nextToken(last.encode())
+                .build();
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 기록 정리 (삭제된 건수 반환)
+     */
+    @Scheduled(initialDelayString = "${whiskey.sync.purge.initial-delay:PT15M}",
+            fixedDelayString = "${whiskey.sync.purge.interval:PT24H}")
+    @Transactional
+    public int purgeTombstones() {
+        int deleted = whiskeyTombstoneRepository.deleteDeletedBefore(System.currentTimeMillis() - retention.toMillis());
+        if (deleted > 0) {
+            log.info("삭제 기록 정리: {}건", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,154 @@
+package com.rusty.whiskeybackend.transfer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.rusty.whiskeybackend.dto.PairingDto;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위스키 전체 내보내기
+ * DB 커서에서 읽는 대로 출력 스트림에 바로 써서 전체 목록을 메모리에 올리지 않음
+ * 형식은 WhiskeyImporter와 같아서 내보낸 파일을 그대로 일괄 등록에 쓸 수 있음
+ */
+@Component
+@Slf4j
+public class WhiskeyExporter {
+
+    // WhiskeyImporter의 CSV 목록/페어링 구분자와 같음
+    private static final String LIST_DELIMITER = "|";
+    private static final String PAIRING_DELIMITER = ":";
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("name")
+            .addColumn("englishName")
+            .addColumn("brand")
+            .addColumn("category")
+            .addColumn("subCategories")
+            .addColumn("abv")
+            .addColumn("volume")
+            .addColumn("nation")
+            .addColumn("region")
+            .addColumn("imageDataUrl")
+            .addColumn("notes")
+            .addColumn("nose")
+            .addColumn("palate")
+            .addColumn("finish")
+            .addColumn("personalNote")
+            .addColumn("starPoint")
+            .addColumn("pairings")
+            .addColumn("flavorTags")
+            .addColumn("createdAt")
+            .addColumn("updatedAt")
+            .build()
+            .withHeader();
+
+    private final WhiskeyService whiskeyService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public WhiskeyExporter(WhiskeyService whiskeyService, ObjectMapper objectMapper) {
+        this.whiskeyService = whiskeyService;
+        // 응답 스트림은 컨테이너가 닫음
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.csvMapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * NDJSON (줄마다 위스키 하나, 썸네일 등 응답 필드 포함)
+     */
+    public long exportNdjson(OutputStream output) throws IOException {
+        try (SequenceWriter writer = objectMapper.writerFor(WhiskeyResponseDto.class)
+                .withRootValueSeparator("\n")
+                .writeValues(output)) {
+            long count = export(writer::write);
+            // 구분자는 값 사이에만 들어가므로 마지막 줄도 개행으로 끝냄
+            if (count > 0) {
+                writer.flush();
+                output.write('\n');
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 첫 줄이 필드명인 CSV (subCategories/flavorTags는 "|"로 구분, pairings는 "아이콘:이름|아이콘:이름")
+     */
+    public long exportCsv(OutputStream output) throws IOException {
+        try (SequenceWriter writer = csvMapper.writer(CSV_SCHEMA).writeValues(output)) {
+            return export(whiskey -> writer.write(toCsv(whiskey)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(WhiskeyResponseDto whiskey) throws IOException;
+    }
+
+    private long export(RowWriter writer) throws IOException {
+        long started = System.nanoTime();
+        long[] count = {0};
+        try {
+            whiskeyService.exportAll(whiskey -> {
+                try {
+                    writer.write(whiskey);
+                    count[0]++;
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊으면 커서를 닫고 트랜잭션을 끝내도록 바로 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("위스키 내보내기: {}건 ({}ms)", count[0], (System.nanoTime() - started) / 1_000_000);
+        return count[0];
+    }
+
+    private static Map<String, Object> toCsv(WhiskeyResponseDto whiskey) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", whiskey.getId());
+        row.put("name", whiskey.getName());
+        row.put("englishName", whiskey.getEnglishName());
+        row.put("brand", whiskey.getBrand());
+        row.put("category", whiskey.getCategory());
+        row.put("subCategories", join(whiskey.getSubCategories().stream().map(Enum::name).toList()));
+        row.put("abv", whiskey.getAbv());
+        row.put("volume", whiskey.getVolume());
+        row.put("nation", whiskey.getNation());
+        row.put("region", whiskey.getRegion());
+        row.put("imageDataUrl", whiskey.getImageDataUrl());
+        row.put("notes", whiskey.getNotes());
+        row.put("nose", whiskey.getNose());
+        row.put("palate", whiskey.getPalate());
+        row.put("finish", whiskey.getFinish());
+        row.put("personalNote", whiskey.getPersonalNote());
+        row.put("starPoint", whiskey.getStarPoint());
+        row.put("pairings", join(whiskey.getPairings().stream().map(WhiskeyExporter::fromPairing).toList()));
+        row.put("flavorTags", join(whiskey.getFlavorTags()));
+        row.put("createdAt", whiskey.getCreatedAt());
+        row.put("updatedAt", whiskey.getUpdatedAt());
+        return row;
+    }
+
+    private static String join(List<String> values) {
+        return String.join(LIST_DELIMITER, values);
+    }
+
+    private static String fromPairing(PairingDto pairing) {
+        return pairing.getIcon() != null ? pairing.getIcon() + PAIRING_DELIMITER + pairing.getName() : pairing.getName();
+    }
+}
@@ -0,0 +1,208 @@
+package com.rusty.whiskeybackend.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.rusty.whiskeybackend.dto.PairingDto;
+import com.rusty.whiskeybackend.dto.WhiskeyImportResultDto;
+import com.rusty.whiskeybackend.dto.WhiskeyImportRowDto;
+import com.rusty.whiskeybackend.dto.WhiskeyRequestDto;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 위스키 일괄 등록
+ * 본문을 한 행씩 읽어(전체를 메모리에 올리지 않음) 검증한 뒤 batchSize개씩 한 트랜잭션으로 저장
+ * 잘못된 행은 건너뛰고 행마다 결과(id 또는 실패 사유)를 돌려줌
+ */
+@Component
+@Slf4j
+public class WhiskeyImporter {
+
+    // CSV에서 목록 값 구분자 (예: "피트|스모키"), 페어링은 "아이콘:이름"
+    private static final String LIST_SEPARATOR = "\\|";
+    private static final String PAIRING_SEPARATOR = ":";
+
+    private final WhiskeyService whiskeyService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final Validator validator;
+    private final int batchSize;
+
+    public WhiskeyImporter(WhiskeyService whiskeyService, ObjectMapper objectMapper, Validator validator,
+                           @Value("${whiskey.bulk.batch-size:1000}") int batchSize) {
+        this.whiskeyService = whiskeyService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * JSON 배열 또는 NDJSON(줄마다 객체 하나)
+     */
+    public WhiskeyImportResultDto importJson(InputStream input) throws IOException {
+        try (MappingIterator<WhiskeyRequestDto> rows = objectMapper.readerFor(WhiskeyRequestDto.class).readValues(input)) {
+            return importRows(rows, Function.identity());
+        }
+    }
+
+    /**
+     * 첫 줄이 필드명인 CSV (subCategories/flavorTags는 "|"로 구분, pairings는 "아이콘:이름|아이콘:이름")
+     */
+    public WhiskeyImportResultDto importCsv(Reader input) throws IOException {
+        try (MappingIterator<Map<String, String>> rows = csvMapper.readerFor(Map.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(input)) {
+            return importRows(rows, this::fromCsv);
+        }
+    }
+
+    private <T> WhiskeyImportResultDto importRows(MappingIterator<T> rows, Function<T, WhiskeyRequestDto> mapper) {
+        long started = System.nanoTime();
+        List<WhiskeyImportRowDto> results = new ArrayList<>();
+        List<WhiskeyRequestDto> batch = new ArrayList<>(batchSize);
+        List<Integer> batchRows = new ArrayList<>(batchSize);
+
+        int row = 0;
+        while (true) {
+            WhiskeyRequestDto request;
+            try {
+                row++;
+                if (!rows.hasNextValue()) {
+                    break;
+                }
+                request = mapper.apply(rows.nextValue());
+            } catch (JsonMappingException | IllegalArgumentException e) {
+                // 값이 잘못된 행만 건너뜀 (다음 행부터 계속 읽음)
+                results.add(WhiskeyImportRowDto.failure(row, "잘못된 값: " + originalMessage(e)));
+                continue;
+            } catch (IOException e) {
+                // 구문이 깨지면 이후 행은 읽을 수 없음
+                results.add(WhiskeyImportRowDto.failure(row, "본문을 읽을 수 없습니다: " + originalMessage(e)));
+                break;
+            }
+
+            String violation = validate(request);
+            if (violation != null) {
+                results.add(WhiskeyImportRowDto.failure(row, violation));
+                continue;
+            }
+            batch.add(request);
+            batchRows.add(row);
+            if (batch.size() == batchSize) {
+                save(batch, batchRows, results);
+            }
+        }
+        save(batch, batchRows, results);
+
+        results.sort(Comparator.comparingInt(WhiskeyImportRowDto::getRow));
+        int failed = (int) results.stream().filter(result -> result.getError() != null).count();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("위스키 일괄 등록: {}건 중 {}건 실패 ({}ms)", results.size(), failed, elapsedMillis);
+        return WhiskeyImportResultDto.builder()
+                .total(results.size())
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .elapsedMillis(elapsedMillis)
+                .rows(results)
+                .build();
+    }
+
+    /**
+     * 배치 저장 (실패하면 배치 전체가 롤백되므로 한 행씩 다시 저장해 실패한 행만 골라냄)
+     */
+    private void save(List<WhiskeyRequestDto> batch, List<Integer> batchRows, List<WhiskeyImportRowDto> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> ids = whiskeyService.createAll(batch);
+            for (int i = 0; i < ids.size(); i++) {
+                results.add(WhiskeyImportRowDto.success(batchRows.get(i), ids.get(i)));
+            }
+        } catch (RuntimeException batchFailure) {
+            log.debug("일괄 등록 배치 실패, 행 단위로 재시도: {}", batchFailure.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    Long id = whiskeyService.createAll(List.of(batch.get(i))).get(0);
+                    results.add(WhiskeyImportRowDto.success(batchRows.get(i), id));
+                } catch (RuntimeException e) {
+                    // 예외 메시지에는 SQL/제약 조건 이름 등이 들어 있으므로 응답에는 넣지 않고 로그로만 남김
+                    log.warn("일괄 등록 {}행 저장 실패", batchRows.get(i), e);
+                    results.add(WhiskeyImportRowDto.failure(batchRows.get(i), "저장하지 못했습니다. 값을 확인해주세요."));
+                }
+            }
+        }
+        batch.clear();
+        batchRows.clear();
+    }
+
+    private String validate(WhiskeyRequestDto request) {
+        if (request == null) {
+            return "빈 행입니다.";
+        }
+        Set<ConstraintViolation<WhiskeyRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private WhiskeyRequestDto fromCsv(Map<String, String> columns) {
+        Map<String, Object> values = new HashMap<>();
+        columns.forEach((name, value) -> {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            switch (name) {
+                case "subCategories", "flavorTags" -> values.put(name, split(value));
+                case "pairings" -> values.put(name, split(value).stream().map(WhiskeyImporter::toPairing).toList());
+                default -> values.put(name, value.trim());
+            }
+        });
+        return objectMapper.convertValue(values, WhiskeyRequestDto.class);
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(LIST_SEPARATOR))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    private static PairingDto toPairing(String value) {
+        int separator = value.indexOf(PAIRING_SEPARATOR);
+        return separator < 0
+                ? new PairingDto(null, value)
+                : new PairingDto(value.substring(0, separator).trim(), value.substring(separator + 1).trim());
+    }
+
+    private static String originalMessage(Exception e) {
+        // convertValue는 매핑 예외를 IllegalArgumentException으로 감싸서 던짐
+        Throwable cause = e instanceof IllegalArgumentException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof JsonProcessingException jsonException ? jsonException.getOriginalMessage() : cause.getMessage();
+    }
+}
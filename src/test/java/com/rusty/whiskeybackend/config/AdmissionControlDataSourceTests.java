@@ -0,0 +1,68 @@
+package com.rusty.whiskeybackend.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlDataSourceTests {
+
+    private final AdmissionControlDataSource dataSource =
+            new AdmissionControlDataSource(h2(), 1, Duration.ofSeconds(5));
+
+    @Test
+    void waitsForAPermitAndTimesOut() throws Exception {
+        AdmissionControlDataSource impatient = new AdmissionControlDataSource(h2(), 1, Duration.ofMillis(200));
+        try (Connection first = impatient.getConnection()) {
+            assertThat(first).isInstanceOf(ConnectionProxy.class);
+            assertThat(impatient.getActiveConnections()).isEqualTo(1);
+
+            assertThatThrownBy(impatient::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(impatient.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void closingHandsThePermitToTheWaitingThread() throws Exception {
+        Connection first = dataSource.getConnection();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return connection.isValid(1);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (dataSource.getWaitingThreads() == 0) {
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+
+            first.close();
+            // 두 번 닫아도 허가는 한 번만 돌려줌
+            first.close();
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(dataSource.getActiveConnections()).isZero();
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:admission-test");
+        h2.setUser("sa");
+        return h2;
+    }
+}
@@ -0,0 +1,239 @@
+package com.rusty.whiskeybackend.config;
+
+import com.rusty.whiskeybackend.WhiskeyBackendApplication;
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드 모드별 부하 테스트 (플랫폼 스레드 / 가상 스레드 / 가상 스레드 + DB 동시 사용 제한)
+ * 기본 빌드에서는 실행하지 않음: mvn test -Dtest=ThreadModeLoadTests -Dbenchmark=true
+ * 클라이언트 CLIENTS개(Tomcat 기본 스레드 200개보다 많음)가 쉬지 않고 요청하며,
+ * 80%는 DB를 쓰는 상세 조회, 20%는 메모리 색인만 쓰는 자동완성
+ * H2 메모리 DB에 문장마다 STATEMENT_LATENCY를 더해 느린 원격 DB 왕복을 흉내 내고, 풀을 작게 잡아 CPU보다 DB 연결이 먼저 모자라게 함
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ThreadModeLoadTests {
+
+    private static final int CLIENTS = 400;
+    private static final int POOL_SIZE = 5;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(10);
+    private static final Duration STATEMENT_LATENCY = Duration.ofMillis(20);
+
+    @Test
+    void compareThreadModes() throws Exception {
+        Result platform = run("platform", false, false);
+        Result virtual = run("virtual", true, false);
+        Result admitted = run("virtual-admission", true, true);
+
+        for (Result result : List.of(platform, virtual, admitted)) {
+            System.out.printf("%-18s: %,6.0f req/s | detail p50 %6.1f ms p99 %7.1f ms | suggest p50 %6.1f ms p99 %7.1f ms | errors %d%n",
+                    result.mode(), result.throughput(),
+                    result.detail().percentile(50), result.detail().percentile(99),
+                    result.suggest().percentile(50), result.suggest().percentile(99),
+                    result.errors());
+            assertThat(result.errors()).isZero();
+        }
+    }
+
+    private Result run(String mode, boolean virtualThreads, boolean admission) throws Exception {
+        // 명령행 인자로 넘겨 application.properties보다 우선하게 함
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(WhiskeyBackendApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new LatencyPostProcessor()))
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:thread-mode-" + mode,
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.h2.console.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.rusty.whiskeybackend=INFO",
+                        "--logging.level.org.springframework.web=INFO",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--whiskey.datasource.admission.enabled=" + admission)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            long[] ids = context.getBean(WhiskeyRepository.class).findAll().stream().mapToLong(Whiskey::getId).toArray();
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                load(client, port, ids, WARM_UP, new Latencies(), new Latencies(), new AtomicLong());
+                Latencies detail = new Latencies();
+                Latencies suggest = new Latencies();
+                AtomicLong errors = new AtomicLong();
+                long elapsed = load(client, port, ids, MEASURE, detail, suggest, errors);
+                return new Result(mode, elapsed, detail, suggest, errors.get());
+            }
+        }
+    }
+
+    private static long load(HttpClient client, int port, long[] ids, Duration duration,
+                             Latencies detail, Latencies suggest, AtomicLong errors) throws Exception {
+        URI suggestUri = URI.create("http://localhost:" + port + "/api/whiskeys/suggest?q="
+                + URLEncoder.encode("글", StandardCharsets.UTF_8));
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        boolean database = random.nextInt(100) < 80;
+                        URI uri = database
+                                ? URI.create("http://localhost:" + port + "/api/whiskeys/" + ids[random.nextInt(ids.length)])
+                                : suggestUri;
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri)
+                                    .timeout(Duration.ofSeconds(60)).build(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        (database ? detail : suggest).add(System.nanoTime() - sent);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    /**
+     * 응답 시간 모음 (나노초)
+     */
+    private static final class Latencies {
+
+        private long[] values = new long[1 << 16];
+        private int size;
+
+        synchronized void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized double percentile(int percent) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int index = Math.min(size - 1, (int) Math.ceil(size * percent / 100.0) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private record Result(String mode, long elapsedNanos, Latencies detail, Latencies suggest, long errors) {
+
+        double throughput() {
+            return (detail.size() + suggest.size()) / (elapsedNanos / 1e9);
+        }
+    }
+
+    /**
+     * 풀이 만든 DataSource를 문장 실행마다 지연을 더하는 DataSource로 감쌈 (동시 사용 제한보다 안쪽)
+     */
+    private static final class LatencyPostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                return new LatencyDataSource(dataSource);
+            }
+            return bean;
+        }
+    }
+
+    private static final class LatencyDataSource extends DelegatingDataSource {
+
+        private LatencyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return withLatency(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return withLatency(Connection.class, super.getConnection(username, password));
+        }
+
+        /**
+         * Connection이 만든 Statement도 감싸고, Statement의 execute* 호출 전에 잠듦
+         */
+        private static <T> T withLatency(Class<T> type, T target) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+                if (method.getName().equals("equals")) {
+                    return self == args[0];
+                }
+                if (method.getName().equals("hashCode")) {
+                    return System.identityHashCode(self);
+                }
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    Thread.sleep(STATEMENT_LATENCY);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+                if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return wrapStatement(method.getReturnType(), statement);
+                }
+                return result;
+            });
+            return type.cast(proxy);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Object wrapStatement(Class<?> type, Statement statement) {
+            return withLatency((Class<Statement>) type, statement);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.rusty.whiskeybackend.controller;
+
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyRequestDto;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class WhiskeyConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        id = whiskeyService.create(request("조건부 조회"), null).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        whiskeyService.delete(id);
+    }
+
+    @Test
+    void detailAnswersNotModifiedFromVersionLookup() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/whiskeys/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+        assertThat(eTag).isNotBlank();
+
+        statistics.clear();
+        mockMvc.perform(get("/api/whiskeys/{id}", id).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        // 날짜 검증은 하지 않으므로 If-Modified-Since만으로는 304가 되지 않음
+        mockMvc.perform(get("/api/whiskeys/{id}", id)
+                        .header("If-Modified-Since", "Wed, 01 Jan 2100 00:00:00 GMT"))
+                .andExpect(status().isOk());
+
+        Thread.sleep(5);
+        whiskeyService.update(id, request("조건부 조회 수정"), null);
+        mockMvc.perform(get("/api/whiskeys/{id}", id).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
+    @Test
+    void listsAnswerNotModifiedUntilCatalogChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/whiskeys").param("category", "BEER"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(get("/api/whiskeys").param("category", "BEER").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/whiskeys/search").param("q", "조건부").param("cursor", "")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        Long other = whiskeyService.create(request("조건부 조회 2"), null).getId();
+        try {
+            mockMvc.perform(get("/api/whiskeys").param("category", "BEER").header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(eTag)));
+        } finally {
+            whiskeyService.delete(other);
+        }
+    }
+
+    private static WhiskeyRequestDto request(String name) {
+        return WhiskeyRequestDto.builder()
+                .name(name)
+                .brand("Conditional")
+                .category(WhiskeyCategory.BEER)
+                .build();
+    }
+}
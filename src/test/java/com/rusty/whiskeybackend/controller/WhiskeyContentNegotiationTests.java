@@ -0,0 +1,69 @@
+package com.rusty.whiskeybackend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WhiskeyContentNegotiationTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void listCanBeReadAsSmileAndCbor() throws Exception {
+        JsonNode json = objectMapper.readTree(fetch("/api/whiskeys?size=5", MediaType.APPLICATION_JSON).getContentAsByteArray());
+
+        MockHttpServletResponse smile = fetch("/api/whiskeys?size=5", SMILE);
+        MockHttpServletResponse cbor = fetch("/api/whiskeys?size=5", CBOR);
+
+        assertThat(MediaType.parseMediaType(smile.getContentType()).isCompatibleWith(SMILE)).isTrue();
+        assertThat(MediaType.parseMediaType(cbor.getContentType()).isCompatibleWith(CBOR)).isTrue();
+        assertThat(smile.getHeaders("Vary")).contains("Accept");
+        assertThat(new SmileMapper().readTree(smile.getContentAsByteArray())).isEqualTo(json);
+        assertThat(new CBORMapper().readTree(cbor.getContentAsByteArray())).isEqualTo(json);
+        assertThat(smile.getContentAsByteArray().length).isLessThan(json.toString().getBytes().length);
+    }
+
+    @Test
+    void acceptsCborRequestBody() throws Exception {
+        List<Long> ids = List.of(2L, 1L);
+        MockHttpServletResponse response = mockMvc.perform(post("/api/whiskeys/batch-get")
+                        .contentType(CBOR)
+                        .accept(CBOR)
+                        .content(new CBORMapper().writeValueAsBytes(ids)))
+                .andReturn()
+                .getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        JsonNode batch = new CBORMapper().readTree(response.getContentAsByteArray());
+        assertThat(batch.get("whiskeys").findValuesAsText("id")).containsExactly("2", "1");
+    }
+
+    private MockHttpServletResponse fetch(String url, MediaType accept) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get(url).accept(accept)).andReturn().getResponse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        return response;
+    }
+}
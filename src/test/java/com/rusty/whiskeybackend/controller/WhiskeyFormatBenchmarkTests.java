@@ -0,0 +1,201 @@
+package com.rusty.whiskeybackend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import com.rusty.whiskeybackend.transfer.WhiskeyImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 형식 벤치마크 (1,000건 페이지의 전송 바이트와 직렬화 CPU, JSON/Smile/CBOR × gzip)
+ * 기본 빌드에서는 실행하지 않음: mvn test -Dtest=WhiskeyFormatBenchmarkTests -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.rusty.whiskeybackend=INFO",
+        "logging.level.org.springframework.web=INFO"
+})
+@DirtiesContext
+class WhiskeyFormatBenchmarkTests {
+
+    private static final int ROWS = 1_000;
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 300;
+    // gzip은 직렬화보다 훨씬 느려 횟수를 줄임
+    private static final int GZIP_ITERATIONS = 20;
+
+    private static final String[] BRANDS = {"글렌피딕", "맥캘란", "발베니", "라프로익", "아드벡", "탈리스커", "글렌리벳", "야마자키",
+            "히비키", "버팔로 트레이스", "메이커스 마크", "와일드 터키", "조니워커", "발렌타인", "로얄 살루트"};
+    private static final String[] REGIONS = {"스페이사이드", "아일라", "하이랜드", "로우랜드", "캠벨타운", "켄터키", "오사카", "아일랜드"};
+    private static final String[] TAGS = {"바닐라", "꿀", "셰리", "피트", "스모키", "건포도", "시나몬", "오크", "캐러멜", "열대과일",
+            "시트러스", "초콜릿", "견과류", "바다내음", "허브", "후추", "사과", "배", "토피", "가죽"};
+    private static final String[] WORDS = {"잘", "익은", "과일과", "달콤한", "꿀", "향이", "먼저", "올라오고", "뒤이어", "은은한",
+            "오크와", "바닐라가", "부드럽게", "감싼다", "스모키한", "피트", "여운이", "길게", "이어지며", "셰리", "캐스크의",
+            "건포도와", "말린", "자두", "느낌이", "입안을", "가득", "채운다", "짭짤한", "바다내음과", "후추의", "매콤함이",
+            "살짝", "스친다", "시간이", "지나면", "토피와", "캐러멜", "단맛이", "드러나고", "마지막엔", "쌉쌀한", "다크",
+            "초콜릿이", "남는다", "물을", "몇", "방울", "더하면", "꽃", "향과", "시트러스가", "열린다"};
+
+    private static final Map<String, String> FORMATS = new LinkedHashMap<>();
+
+    static {
+        FORMATS.put("json", "application/json");
+        FORMATS.put("smile", "application/x-jackson-smile");
+        FORMATS.put("cbor", "application/cbor");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WhiskeyImporter whiskeyImporter;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Test
+    void compareFormatsForThousandItemPage() throws Exception {
+        whiskeyImporter.importJson(new ByteArrayInputStream(ndjson()));
+
+        HttpClient client = HttpClient.newHttpClient();
+        String url = "http://localhost:" + port + "/api/whiskeys?size=" + ROWS;
+        System.out.println("bytes on the wire (GET /api/whiskeys?size=1000):");
+        long jsonBytes = 0;
+        for (Map.Entry<String, String> format : FORMATS.entrySet()) {
+            long identity = fetch(client, url, format.getValue(), "identity");
+            long gzip = fetch(client, url, format.getValue(), "gzip");
+            if (jsonBytes == 0) {
+                jsonBytes = identity;
+            }
+            System.out.printf("  %-6s %,10d B (%3.0f%%)   gzip %,9d B (%3.0f%%)%n", format.getKey(),
+                    identity, 100.0 * identity / jsonBytes, gzip, 100.0 * gzip / jsonBytes);
+        }
+
+        List<WhiskeyResponseDto> page = whiskeyService.findAll(null, null,
+                PageRequest.of(0, ROWS, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
+        assertThat(page).hasSize(ROWS);
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", objectMapper);
+        mappers.put("smile", smileConverter.getObjectMapper());
+        mappers.put("cbor", cborConverter.getObjectMapper());
+
+        System.out.println("serialization CPU per 1,000-item page (this thread, after warm-up):");
+        for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+            double millis = cpuMillis(() -> mapper.getValue().writeValueAsBytes(page), WARMUP, ITERATIONS);
+            double gzipMillis = cpuMillis(() -> gzip(mapper.getValue().writeValueAsBytes(page)),
+                    GZIP_ITERATIONS, GZIP_ITERATIONS);
+            System.out.printf("  %-6s %6.2f ms   with gzip %6.2f ms%n", mapper.getKey(), millis, gzipMillis);
+        }
+    }
+
+    private static long fetch(HttpClient client, String url, String accept, String encoding)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", accept)
+                .header("Accept-Encoding", encoding)
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith(accept));
+        if ("gzip".equals(encoding)) {
+            assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        }
+        return response.body().length;
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        Object run() throws IOException;
+    }
+
+    private static double cpuMillis(Work work, int warmup, int iterations) throws IOException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < warmup; i++) {
+            work.run();
+        }
+        long started = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            work.run();
+        }
+        return (threads.getCurrentThreadCpuTime() - started) / 1e6 / iterations;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] ndjson() {
+        Random random = new Random(42);
+        WhiskeyCategory[] categories = WhiskeyCategory.values();
+        StringBuilder builder = new StringBuilder(ROWS * 4_000);
+        for (int i = 0; i < ROWS; i++) {
+            builder.append("{\"name\":\"벤치 위스키 ").append(i)
+                    .append("\",\"englishName\":\"Bench Whiskey ").append(i)
+                    .append("\",\"brand\":\"").append(BRANDS[random.nextInt(BRANDS.length)])
+                    .append("\",\"category\":\"").append(categories[random.nextInt(categories.length)])
+                    .append("\",\"abv\":").append(40 + random.nextInt(20))
+                    .append(",\"volume\":700,\"nation\":\"스코틀랜드\",\"region\":\"").append(REGIONS[random.nextInt(REGIONS.length)])
+                    .append("\",\"notes\":\"").append(text(random))
+                    .append("\",\"nose\":\"").append(text(random))
+                    .append("\",\"palate\":\"").append(text(random))
+                    .append("\",\"finish\":\"").append(text(random))
+                    .append("\",\"starPoint\":").append(random.nextInt(5) + 1)
+                    .append(",\"pairings\":[{\"icon\":\"🧀\",\"name\":\"치즈\"},{\"icon\":\"🍫\",\"name\":\"다크 초콜릿\"}]")
+                    .append(",\"flavorTags\":[\"").append(TAGS[random.nextInt(TAGS.length)])
+                    .append("\",\"").append(TAGS[random.nextInt(TAGS.length)])
+                    .append("\",\"").append(TAGS[random.nextInt(TAGS.length)]).append("\"]}\n");
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 노트 하나에 한글 400~800자 (UTF-8 기준 1~2KB), 단어를 무작위로 이어 붙여 실제 노트처럼 압축률이 높지 않게 함
+    private static String text(Random random) {
+        int length = 400 + random.nextInt(400);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? ". " : " ");
+        }
+        return text.toString();
+    }
+}
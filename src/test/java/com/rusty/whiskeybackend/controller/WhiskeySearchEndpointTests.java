@@ -0,0 +1,46 @@
+package com.rusty.whiskeybackend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 검색 엔드포인트 매핑 확인 (주석 등으로 매핑이 빠지면 빌드가 실패하도록)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WhiskeySearchEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void searchFindsWhiskeyByName() throws Exception {
+        mockMvc.perform(get("/api/whiskeys/search").param("q", "글렌리벳"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", hasItem("더 글렌리벳 12년")));
+    }
+
+    @Test
+    void emptyQueryListsWholeCatalog() throws Exception {
+        mockMvc.perform(get("/api/whiskeys/search").param("q", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", greaterThan(0)));
+    }
+
+    @Test
+    void filteredSearchRejectsOrdersTheFilterIndexCannotServe() throws Exception {
+        mockMvc.perform(get("/api/whiskeys/search").param("q", "글렌").param("minAbv", "40").param("sort", "name,asc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/whiskeys/search").param("q", "글렌").param("minAbv", "40").param("cursor", ""))
+                .andExpect(status().isBadRequest());
+    }
+}
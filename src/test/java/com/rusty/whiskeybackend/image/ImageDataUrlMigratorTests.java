@@ -0,0 +1,69 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImageDataUrlMigratorTests {
+
+    @Autowired
+    private ImageDataUrlMigrator migrator;
+
+    @Autowired
+    private WhiskeyRepository whiskeyRepository;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        // 위스키를 지우면 커밋 후 참조가 없어진 이미지 파일도 함께 삭제됨
+        ids.forEach(whiskeyService::delete);
+    }
+
+    @Test
+    void movesInlineImagesIntoTheStore() throws IOException {
+        byte[] content = new byte[256];
+        new Random().nextBytes(content);
+        content[0] = (byte) 0xFF;
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        Long inline = save("data:image/jpeg;base64," + Base64.getEncoder().encodeToString(content));
+        Long broken = save("data:image/jpeg;base64,AAAA");
+
+        assertThat(migrator.migrateAll()).isEqualTo(1);
+
+        String imageUrl = whiskeyRepository.findById(inline).orElseThrow().getImageDataUrl();
+        assertThat(imageUrl).startsWith(ImageStore.URL_PREFIX).endsWith(".jpg");
+        assertThat(Files.readAllBytes(ImageStore.resolve(imageUrl))).isEqualTo(content);
+        assertThat(whiskeyRepository.findById(broken).orElseThrow().getImageDataUrl()).startsWith("data:");
+    }
+
+    private Long save(String imageDataUrl) {
+        Long id = whiskeyRepository.save(Whiskey.builder()
+                .name("data-url-migration-test")
+                .brand("test")
+                .category(WhiskeyCategory.SINGLE_MALT)
+                .imageDataUrl(imageDataUrl)
+                .build()).getId();
+        ids.add(id);
+        return id;
+    }
+}
@@ -0,0 +1,138 @@
+package com.rusty.whiskeybackend.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageFileServerTests {
+
+    private static final String FILENAME = "image-file-server-test.png";
+
+    private final FileChannelCache fileChannelCache = new FileChannelCache(4);
+    private final ImageFileServer server = new ImageFileServer(fileChannelCache);
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(Paths.get(ImageStore.UPLOAD_DIR));
+        file = Paths.get(ImageStore.UPLOAD_DIR).resolve(FILENAME);
+        Files.writeString(file, "0123456789");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileChannelCache.closeAll();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void servesWholeFileWithImmutableCacheHeaders() throws IOException {
+        MockHttpServletResponse response = serve(FILENAME, new MockHttpServletRequest("GET", "/images/" + FILENAME));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + FILENAME + "\"");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(ImageFileServer.CACHE_CONTROL);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    void servesSingleRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILENAME);
+        request.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse response = serve(FILENAME, request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("2345");
+
+        MockHttpServletRequest suffix = new MockHttpServletRequest("GET", "/images/" + FILENAME);
+        suffix.addHeader("Range", "bytes=-3");
+        assertThat(serve(FILENAME, suffix).getContentAsString(StandardCharsets.UTF_8)).isEqualTo("789");
+    }
+
+    @Test
+    void rejectsUnsatisfiableRangeAndIgnoresStaleIfRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILENAME);
+        request.addHeader("Range", "bytes=20-");
+        MockHttpServletResponse response = serve(FILENAME, request);
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+
+        MockHttpServletRequest stale = new MockHttpServletRequest("GET", "/images/" + FILENAME);
+        stale.addHeader("Range", "bytes=2-5");
+        stale.addHeader("If-Range", "\"other\"");
+        assertThat(serve(FILENAME, stale).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void ignoresMalformedRange() throws IOException {
+        for (String range : new String[]{"bytes=abc", "bytes=5-2", "items=0-1"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILENAME);
+            request.addHeader("Range", range);
+            MockHttpServletResponse response = serve(FILENAME, request);
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getHeader("Content-Range")).as(range).isNull();
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).as(range).isEqualTo("0123456789");
+        }
+    }
+
+    @Test
+    void answersNotModifiedForMatchingEtag() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILENAME);
+        request.addHeader("If-None-Match", "\"other\", \"" + FILENAME + "\"");
+        MockHttpServletResponse response = serve(FILENAME, request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void returnsNotFoundForMissingOrEscapingPaths() throws IOException {
+        assertThat(serve("missing.png", new MockHttpServletRequest("GET", "/images/missing.png")).getStatus()).isEqualTo(404);
+        assertThat(serve("..", new MockHttpServletRequest("GET", "/images/..")).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    void handsFileToSendfileWhenContainerSupportsIt() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILENAME);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=4-");
+        MockHttpServletResponse response = serve(FILENAME, request);
+
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(4L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+        assertThat(response.getContentLengthLong()).isEqualTo(6);
+        assertThat(response.getContentAsByteArray()).isEmpty();        // Tomcat이 직접 열므로 채널을 열어 두지 않음
+        assertThat(fileChannelCache.openChannels()).isZero();
+    }
+
+    @Test
+    void reusesCachedChannelAcrossRequests() throws IOException {
+        serve(FILENAME, new MockHttpServletRequest("GET", "/images/" + FILENAME));
+        serve(FILENAME, new MockHttpServletRequest("GET", "/images/" + FILENAME));
+
+        assertThat(fileChannelCache.openChannels()).isEqualTo(1);
+
+        fileChannelCache.invalidate(file);
+        assertThat(fileChannelCache.openChannels()).isZero();
+    }
+
+    private MockHttpServletResponse serve(String filename, MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        server.serve(filename, request, response);
+        return response;
+    }
+}
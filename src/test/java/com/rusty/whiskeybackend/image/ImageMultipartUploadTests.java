@@ -0,0 +1,99 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import jakarta.servlet.MultipartConfigElement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * multipart 업로드가 저장소의 incoming 디렉토리로 받아져 이동만으로 저장되는지 확인 (실제 Tomcat 사용)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ImageMultipartUploadTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MultipartConfigElement multipartConfig;
+
+    @Autowired
+    private WhiskeyRepository whiskeyRepository;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    private Long id;
+
+    @AfterEach
+    void tearDown() {
+        // 위스키를 지우면 커밋 후 참조가 없어진 이미지 파일도 함께 삭제됨
+        if (id != null) {
+            whiskeyService.delete(id);
+        }
+    }
+
+    @Test
+    void containerSpoolsPartsIntoTheStoresIncomingDirectory() throws Exception {
+        assertThat(Paths.get(multipartConfig.getLocation()))
+                .isEqualTo(Paths.get(ImageStore.UPLOAD_DIR, ImageStore.INCOMING_DIR).toAbsolutePath())
+                .isDirectory();
+
+        id = whiskeyRepository.save(Whiskey.builder()
+                .name("multipart-upload-test")
+                .brand("test")
+                .category(WhiskeyCategory.SINGLE_MALT)
+                .build()).getId();
+        HttpResponse<String> response;
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            response = client.send(multipartRequest(URI.create("http://localhost:" + port + "/api/whiskeys/" + id + "/image"),
+                    png(64 * 1024)), HttpResponse.BodyHandlers.ofString());
+        }
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        String imageUrl = whiskeyRepository.findById(id).orElseThrow().getImageDataUrl();
+        assertThat(response.body()).contains(imageUrl);
+        assertThat(ImageStore.resolve(imageUrl)).exists();
+    }
+
+    private static HttpRequest multipartRequest(URI uri, byte[] content) {
+        String boundary = UUID.randomUUID().toString();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"image\"; filename=\"bottle.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    // PNG 시그니처 뒤에 임의 바이트 (저장소는 형식 판별만 하므로 디코딩 가능할 필요 없음)
+    private static byte[] png(int size) {
+        byte[] content = new byte[size];
+        new Random().nextBytes(content);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+}
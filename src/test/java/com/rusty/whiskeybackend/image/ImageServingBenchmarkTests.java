@@ -0,0 +1,136 @@
+package com.rusty.whiskeybackend.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 전송 벤치마크 (ImageController vs 기존 ResourceHttpRequestHandler)
+ * 기본 빌드에서는 실행하지 않음: mvn test -Dtest=ImageServingBenchmarkTests -Dbenchmark=true
+ * CPU 시간은 같은 JVM의 HTTP 클라이언트 몫까지 포함하므로 두 경로의 상대 비교로만 볼 것
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ImageServingBenchmarkTests {
+
+    private static final String FILENAME = "benchmark-image.jpg";
+    private static final int FILE_SIZE = 512 * 1024;
+    private static final int REQUESTS = 4_000;
+    private static final int CONCURRENCY = 16;
+
+    @LocalServerPort
+    private int port;
+
+    private Path file;
+
+    @TestConfiguration
+    static class ResourceHandlerConfig {
+
+        // 기존 방식 (Spring 정적 리소스 처리)
+        @Bean
+        WebMvcConfigurer legacyImageHandler() {
+            return new WebMvcConfigurer() {
+                @Override
+                public void addResourceHandlers(ResourceHandlerRegistry registry) {
+                    registry.addResourceHandler("/legacy-images/**")
+                            .addResourceLocations("file:" + ImageStore.UPLOAD_DIR + "/");
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(Paths.get(ImageStore.UPLOAD_DIR));
+        file = Paths.get(ImageStore.UPLOAD_DIR).resolve(FILENAME);
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        Files.write(file, content);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void compareImageHandlers() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        // 워밍업
+        run(client, "/legacy-images/" + FILENAME, REQUESTS / 4);
+        run(client, "/images/" + FILENAME, REQUESTS / 4);
+
+        Result legacy = run(client, "/legacy-images/" + FILENAME, REQUESTS);
+        Result current = run(client, "/images/" + FILENAME, REQUESTS);
+
+        System.out.printf("legacy  : %,.0f req/s, %.1f µs CPU/req%n", legacy.throughput(), legacy.cpuMicrosPerRequest());
+        System.out.printf("current : %,.0f req/s, %.1f µs CPU/req%n", current.throughput(), current.cpuMicrosPerRequest());
+        assertThat(current.bytes()).isEqualTo((long) REQUESTS * FILE_SIZE);
+    }
+
+    private Result run(HttpClient client, String path, int requests) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + path);
+        AtomicLong bytes = new AtomicLong();
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        long cpuBefore = os.getProcessCpuTime();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            Future<?>[] futures = new Future<?>[CONCURRENCY];
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                int share = requests / CONCURRENCY;
+                futures[worker] = executor.submit(() -> {
+                    for (int i = 0; i < share; i++) {
+                        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).build(),
+                                HttpResponse.BodyHandlers.ofByteArray());
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        bytes.addAndGet(response.body().length);
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        long cpu = os.getProcessCpuTime() - cpuBefore;
+        return new Result(requests, elapsed, cpu, bytes.get());
+    }
+
+    private record Result(int requests, long elapsedNanos, long cpuNanos, long bytes) {
+
+        double throughput() {
+            return requests / (elapsedNanos / 1e9);
+        }
+
+        double cpuMicrosPerRequest() {
+            return cpuNanos / 1e3 / requests;
+        }
+    }
+}
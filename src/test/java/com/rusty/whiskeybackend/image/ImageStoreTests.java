@@ -0,0 +1,156 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.event.ImageReleasedEvent;
+import com.rusty.whiskeybackend.event.ImageStoredEvent;
+import com.rusty.whiskeybackend.exception.BadRequestException;
+import com.rusty.whiskeybackend.exception.PayloadTooLargeException;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageStoreTests {
+
+    private final WhiskeyRepository whiskeyRepository = mock(WhiskeyRepository.class);
+    private final FileChannelCache fileChannelCache = new FileChannelCache(4);
+    private final ImageStore imageStore = new ImageStore(whiskeyRepository, fileChannelCache,
+            new ImageVariantRegistry(), DataSize.ofKilobytes(256));
+    private final List<Path> stored = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        stored.forEach(imageStore::delete);
+        fileChannelCache.closeAll();
+    }
+
+    @Test
+    void storesStreamUnderContentHashWithSniffedExtension() throws IOException {
+        byte[] content = png(100 * 1024);
+
+        String url = store(content, -1);
+        String again = store(content, content.length);
+
+        assertThat(url).matches("/images/[0-9a-f]{64}\\.png");
+        assertThat(again).isEqualTo(url);
+        assertThat(Files.readAllBytes(ImageStore.resolve(url))).isEqualTo(content);
+    }
+
+    @Test
+    void keepsDeduplicatedFileWhileItsUploadIsUncommitted() throws IOException {
+        byte[] content = png(8 * 1024);
+        String url = store(content, -1);
+        imageStore.onImageStoreCommitted(new ImageStoredEvent(url));
+
+        // 두 번째 업로드가 같은 파일을 가리킨 채 커밋 전에, 첫 참조가 해제됨 (DB 참조 수 0)
+        assertThat(store(content, -1)).isEqualTo(url);
+        imageStore.onImageReleased(new ImageReleasedEvent(url));
+        assertThat(ImageStore.resolve(url)).exists();
+
+        // 두 번째 업로드가 롤백되면 더 이상 잡고 있는 쪽이 없으므로 삭제
+        imageStore.onImageStoreRolledBack(new ImageStoredEvent(url));
+        assertThat(ImageStore.resolve(url)).doesNotExist();
+    }
+
+    @Test
+    void keepsReleasedFileWhileAnotherWhiskeyStillReferencesIt() throws IOException {
+        String url = store(png(8 * 1024), -1);
+        imageStore.onImageStoreCommitted(new ImageStoredEvent(url));
+        when(whiskeyRepository.countByImageDataUrl(url)).thenReturn(1L);
+
+        imageStore.onImageReleased(new ImageReleasedEvent(url));
+        assertThat(ImageStore.resolve(url)).exists();
+
+        when(whiskeyRepository.countByImageDataUrl(url)).thenReturn(0L);
+        imageStore.onImageReleased(new ImageReleasedEvent(url));
+        assertThat(ImageStore.resolve(url)).doesNotExist();
+    }
+
+    @Test
+    void sweepSkipsFilesHeldByUncommittedUploads() throws IOException {
+        String url = store(png(8 * 1024), -1);
+        Instant future = Instant.now().plusSeconds(60);
+
+        assertThat(imageStore.deleteIfIdle(ImageStore.resolve(url), future)).isFalse();
+
+        imageStore.onImageStoreCommitted(new ImageStoredEvent(url));
+        assertThat(imageStore.deleteIfIdle(ImageStore.resolve(url), future)).isTrue();
+        assertThat(ImageStore.resolve(url)).doesNotExist();
+    }
+
+    @Test
+    void rejectsOversizedUploadsWhileStreaming() {
+        byte[] content = png(300 * 1024);
+
+        assertThatThrownBy(() -> store(content, -1)).isInstanceOf(PayloadTooLargeException.class);
+        assertThatThrownBy(() -> store(content, content.length)).isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void rejectsUnsupportedContent() {
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> store(html, html.length)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void decodesBase64DataUrls() throws IOException {
+        byte[] content = png(4 * 1024);
+        String dataUrl = "data:image/png;base64," + Base64.getMimeEncoder().encodeToString(content);
+
+        String url = imageStore.storeDataUrl(dataUrl);
+        stored.add(ImageStore.resolve(url));
+
+        assertThat(url).endsWith(".png");
+        assertThat(Files.readAllBytes(ImageStore.resolve(url))).isEqualTo(content);
+        assertThat(ImageStore.isDataUrl(dataUrl)).isTrue();
+        assertThat(ImageStore.isDataUrl(url)).isFalse();
+        assertThatThrownBy(() -> imageStore.storeDataUrl("data:image/svg+xml,%3Csvg%2F%3E"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void detectsFormatsFromLeadingBytes() {
+        assertThat(detect(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x00})).isEqualTo(ImageFormat.JPEG);
+        assertThat(detect(png(16))).isEqualTo(ImageFormat.PNG);
+        assertThat(detect("GIF89a".getBytes(StandardCharsets.US_ASCII))).isEqualTo(ImageFormat.GIF);
+        assertThat(detect("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII))).isEqualTo(ImageFormat.WEBP);
+        assertThat(detect("<?xml version=\"1.0\"?>\n<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(ImageFormat.SVG);
+        assertThat(detect("<?xml version=\"1.0\"?><html/>".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    private String store(byte[] content, long contentLength) throws IOException {
+        String url = imageStore.store(new ByteArrayInputStream(content), contentLength);
+        stored.add(ImageStore.resolve(url));
+        return url;
+    }
+
+    private static ImageFormat detect(byte[] header) {
+        return ImageFormat.detect(header, header.length);
+    }
+
+    // PNG 시그니처 뒤에 임의 바이트 (저장소는 형식 판별만 하므로 디코딩 가능할 필요 없음)
+    private static byte[] png(int size) {
+        byte[] content = new byte[size];
+        new Random().nextBytes(content);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+}
@@ -0,0 +1,63 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageSweeperTests {
+
+    private final WhiskeyRepository whiskeyRepository = mock(WhiskeyRepository.class);
+    private final FileChannelCache fileChannelCache = new FileChannelCache(4);
+    private final ImageSweeper sweeper = new ImageSweeper(
+            new ImageStore(whiskeyRepository, fileChannelCache, new ImageVariantRegistry(), DataSize.ofMegabytes(10)),
+            whiskeyRepository, 2, Duration.ofHours(1));
+
+    @TempDir
+    Path uploadPath;
+
+    @AfterEach
+    void tearDown() {
+        fileChannelCache.closeAll();
+    }
+
+    @Test
+    void deletesOldUnreferencedImagesWithTheirVariants() throws IOException {
+        Path referenced = file("sweeper-test-referenced.png", Duration.ofDays(2));
+        Path orphan = file("sweeper-test-orphan.png", Duration.ofDays(2));
+        Path orphanThumb = file("sweeper-test-orphan_thumb.jpg", Duration.ofDays(2));
+        Path fresh = file("sweeper-test-fresh.png", Duration.ZERO);
+        Path strayVariant = file("sweeper-test-gone_w1024.jpg", Duration.ofDays(2));
+        when(whiskeyRepository.findReferencedImageUrls(anyCollection()))
+                .thenReturn(List.of(ImageStore.URL_PREFIX + referenced.getFileName()));
+
+        sweeper.sweep(uploadPath);
+
+        assertThat(referenced).exists();
+        assertThat(fresh).exists();
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanThumb).doesNotExist();
+        assertThat(strayVariant).doesNotExist();
+    }
+
+    private Path file(String filename, Duration age) throws IOException {
+        Path path = uploadPath.resolve(filename);
+        Files.writeString(path, filename);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(age)));
+        return path;
+    }
+}
@@ -0,0 +1,161 @@
+package com.rusty.whiskeybackend.image;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 이미지 업로드 부하 테스트 (요청 본문 스트리밍 vs multipart)
+ * 기본 빌드에서는 실행하지 않음: mvn test -Dtest=ImageUploadLoadTests -Dbenchmark=true
+ * 매 요청마다 다른 내용을 올려 중복 제거 없이 매번 디스크에 쓰도록 함
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ImageUploadLoadTests {
+
+    private static final int FILE_SIZE = 2 * 1024 * 1024;
+    private static final int UPLOADS = 400;
+    private static final int CONCURRENCY = 16;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WhiskeyRepository whiskeyRepository;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CONCURRENCY; i++) {
+            ids.add(whiskeyRepository.save(Whiskey.builder()
+                    .name("upload-load-test-" + i)
+                    .brand("load-test")
+                    .category(WhiskeyCategory.SINGLE_MALT)
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 위스키를 지우면 커밋 후 참조가 없어진 이미지 파일도 함께 삭제됨
+        ids.forEach(whiskeyService::delete);
+    }
+
+    @Test
+    void concurrentUploads() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        // 워밍업
+        run(client, false, UPLOADS / 4);
+        run(client, true, UPLOADS / 4);
+
+        Result multipart = run(client, true, UPLOADS);
+        Result raw = run(client, false, UPLOADS);
+
+        System.out.printf("multipart : %,.0f uploads/s, %,.1f MB/s, %.0f µs CPU/upload%n",
+                multipart.throughput(), multipart.megabytesPerSecond(), multipart.cpuMicrosPerUpload());
+        System.out.printf("raw       : %,.0f uploads/s, %,.1f MB/s, %.0f µs CPU/upload%n",
+                raw.throughput(), raw.megabytesPerSecond(), raw.cpuMicrosPerUpload());
+    }
+
+    private Result run(HttpClient client, boolean multipart, int uploads) throws Exception {
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        long cpuBefore = os.getProcessCpuTime();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            Future<?>[] futures = new Future<?>[CONCURRENCY];
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                URI uri = URI.create("http://localhost:" + port + "/api/whiskeys/" + ids.get(worker) + "/image");
+                int share = uploads / CONCURRENCY;
+                futures[worker] = executor.submit(() -> {
+                    for (int i = 0; i < share; i++) {
+                        HttpRequest request = multipart ? multipartRequest(uri, png()) : rawRequest(uri, png());
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        assertThat(response.statusCode()).isEqualTo(200);
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        long cpu = os.getProcessCpuTime() - cpuBefore;
+        return new Result(uploads, elapsed, cpu);
+    }
+
+    private static HttpRequest rawRequest(URI uri, byte[] content) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "image/png")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(content))
+                .build();
+    }
+
+    private static HttpRequest multipartRequest(URI uri, byte[] content) {
+        String boundary = UUID.randomUUID().toString();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"image\"; filename=\"load-test.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private static byte[] png() {
+        byte[] content = new byte[FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+
+    private record Result(int uploads, long elapsedNanos, long cpuNanos) {
+
+        double throughput() {
+            return uploads / (elapsedNanos / 1e9);
+        }
+
+        double megabytesPerSecond() {
+            return throughput() * FILE_SIZE / (1024.0 * 1024.0);
+        }
+
+        double cpuMicrosPerUpload() {
+            return cpuNanos / 1e3 / uploads;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rusty.whiskeybackend.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantProcessorTests {
+
+    private final ImageVariantRegistry registry = new ImageVariantRegistry();
+    private final ImageVariantProcessor processor = new ImageVariantProcessor(1, 1, 20_000_000, registry, event -> { });
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.shutdown();
+    }
+
+    @Test
+    void writesDownscaledJpegVariantsNextToOriginal() throws IOException {
+        Path original = dir.resolve("bottle.png");
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        processor.process(original);
+
+        BufferedImage thumbnail = ImageIO.read(dir.resolve("bottle_thumb.jpg").toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+        BufferedImage medium = ImageIO.read(dir.resolve("bottle_w1024.jpg").toFile());
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(Files.exists(dir.resolve("bottle_thumb.jpg.tmp"))).isFalse();
+        assertThat(processor.variantUrls("/images/bottle.png"))
+                .containsEntry(ImageVariant.THUMBNAIL, "/images/bottle_thumb.jpg")
+                .containsEntry(ImageVariant.MEDIUM, "/images/bottle_w1024.jpg");
+    }
+
+    @Test
+    void subsamplesLargeOriginalsAndSkipsOnesOverThePixelBudget() throws IOException {
+        Path large = dir.resolve("large.png");
+        ImageIO.write(new BufferedImage(4100, 2050, BufferedImage.TYPE_INT_RGB), "png", large.toFile());
+        Path huge = dir.resolve("huge.png");
+        ImageIO.write(new BufferedImage(5000, 5000, BufferedImage.TYPE_BYTE_BINARY), "png", huge.toFile());
+
+        processor.process(large);
+        processor.process(huge);
+
+        BufferedImage medium = ImageIO.read(dir.resolve("large_w1024.jpg").toFile());
+        assertThat(medium.getWidth()).isEqualTo(1024);
+        assertThat(medium.getHeight()).isEqualTo(512);
+        assertThat(dir.resolve("huge_thumb.jpg")).doesNotExist();
+        assertThat(registry.hasVariants("huge.png")).isFalse();
+    }
+
+    @Test
+    void registryLoadsOnlyOriginalsWithEveryVariant() throws IOException {
+        for (String filename : List.of("done.png", "done_thumb.jpg", "done_w1024.jpg", "partial.png", "partial_thumb.jpg")) {
+            Files.writeString(dir.resolve(filename), "");
+        }
+
+        registry.load(dir);
+
+        assertThat(registry.hasVariants("done.png")).isTrue();
+        assertThat(registry.hasVariants("partial.png")).isFalse();
+        assertThat(processor.variantUrls("/images/partial.png")).isEmpty();
+    }
+
+    @Test
+    void skipsFilesThatAreNotImages() throws IOException {
+        Path original = dir.resolve("notes.png");
+        Files.writeString(original, "not an image");
+
+        processor.process(original);
+
+        assertThat(dir.resolve("notes_thumb.jpg")).doesNotExist();
+    }
+}
@@ -0,0 +1,73 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class WhiskeyFacetIndexTests {
+
+    private WhiskeyFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WhiskeyFacetIndex();
+        index.upsert(whiskey(1L, WhiskeyCategory.SINGLE_MALT, List.of(WhiskeySubCategory.PEAT), List.of("스모키", "바다")));
+        index.upsert(whiskey(2L, WhiskeyCategory.SINGLE_MALT, List.of(WhiskeySubCategory.SHERRY), List.of("과일")));
+        index.upsert(whiskey(3L, WhiskeyCategory.BLENDED_MALT, List.of(), List.of("스모키")));
+    }
+
+    @Test
+    void countsWholeCatalogAndCategory() {
+        WhiskeyFacetIndex.Facets all = index.facets(null);
+        assertThat(all.total()).isEqualTo(3);
+        assertThat(all.categories()).containsEntry(WhiskeyCategory.SINGLE_MALT, 2L).containsEntry(WhiskeyCategory.BEER, 0L);
+        assertThat(all.flavorTags()).containsExactly(
+                entry("스모키", 2L),
+                entry("과일", 1L),
+                entry("바다", 1L));
+
+        WhiskeyFacetIndex.Facets singleMalt = index.facets(WhiskeyCategory.SINGLE_MALT);
+        assertThat(singleMalt.total()).isEqualTo(2);
+        assertThat(singleMalt.categories()).containsEntry(WhiskeyCategory.BLENDED_MALT, 1L);
+        assertThat(singleMalt.subCategories()).containsEntry(WhiskeySubCategory.PEAT, 1L).containsEntry(WhiskeySubCategory.SHERRY, 1L);
+    }
+
+    @Test
+    void updatesCountersIncrementally() {
+        index.upsert(whiskey(1L, WhiskeyCategory.BLENDED_MALT, List.of(), List.of("과일")));
+        index.remove(2L);
+
+        WhiskeyFacetIndex.Facets all = index.facets(null);
+        assertThat(all.total()).isEqualTo(2);
+        assertThat(all.categories()).containsEntry(WhiskeyCategory.SINGLE_MALT, 0L).containsEntry(WhiskeyCategory.BLENDED_MALT, 2L);
+        assertThat(all.subCategories()).containsEntry(WhiskeySubCategory.PEAT, 0L);
+        assertThat(all.flavorTags()).containsOnlyKeys("스모키", "과일");
+    }
+
+    @Test
+    void countsSearchResultsOnly() {
+        WhiskeyFacetIndex.Facets facets = index.facets(WhiskeyCategory.SINGLE_MALT, List.of(1L, 3L));
+
+        assertThat(facets.total()).isEqualTo(1);
+        assertThat(facets.categories()).containsEntry(WhiskeyCategory.SINGLE_MALT, 1L).containsEntry(WhiskeyCategory.BLENDED_MALT, 1L);
+        assertThat(facets.flavorTags()).containsOnlyKeys("스모키", "바다");
+    }
+
+    private static Whiskey whiskey(Long id, WhiskeyCategory category, List<WhiskeySubCategory> subCategories, List<String> flavorTags) {
+        return Whiskey.builder()
+                .id(id)
+                .name("위스키 " + id)
+                .brand("브랜드")
+                .category(category)
+                .subCategories(subCategories)
+                .flavorTags(flavorTags)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhiskeyFilterIndexTests {
+
+    private WhiskeyFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WhiskeyFilterIndex();
+        index.upsert(whiskey(1L, WhiskeyCategory.SINGLE_MALT, "스코틀랜드", List.of(WhiskeySubCategory.PEAT), List.of("스모키", "약품")));
+        index.upsert(whiskey(2L, WhiskeyCategory.SINGLE_MALT, "스코틀랜드", List.of(WhiskeySubCategory.SHERRY), List.of("과일")));
+        index.upsert(whiskey(3L, WhiskeyCategory.BLENDED_MALT, "아일랜드", List.of(WhiskeySubCategory.PEAT), List.of("스모키")));
+        index.upsert(whiskey(4L, WhiskeyCategory.WORLD_WHISKEY, "미국", List.of(), List.of("바닐라")));
+    }
+
+    @Test
+    void combinesAndOrNotInNewestFirstOrder() {
+        WhiskeyFilterIndex.Result result = index.filter(null, Map.of(
+                WhiskeyFilterIndex.Dimension.NATION, List.of("스코틀랜드|아일랜드"),
+                WhiskeyFilterIndex.Dimension.FLAVOR_TAG, List.of("스모키", "!약품")), 0, 10);
+
+        assertThat(result.total()).isEqualTo(1);
+        assertThat(result.ids()).containsExactly(3L);
+
+        WhiskeyFilterIndex.Result peat = index.filter(null, Map.of(
+                WhiskeyFilterIndex.Dimension.SUB_CATEGORY, List.of("peat")), 0, 10);
+        assertThat(peat.ids()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void pagesAndRestrictsToGivenIds() {
+        WhiskeyFilterIndex.Result page = index.filter(null, Map.of(
+                WhiskeyFilterIndex.Dimension.CATEGORY, List.of("!WORLD_WHISKEY")), 1, 1);
+        assertThat(page.total()).isEqualTo(3);
+        assertThat(page.ids()).containsExactly(2L);
+
+        WhiskeyFilterIndex.Result restricted = index.filter(List.of(1L, 4L, 99L), Map.of(), 0, 10);
+        assertThat(restricted.ids()).containsExactly(4L, 1L);
+    }
+
+    @Test
+    void reindexesOnUpdateAndRemove() {
+        index.upsert(whiskey(1L, WhiskeyCategory.SINGLE_MALT, "스코틀랜드", List.of(WhiskeySubCategory.SHERRY), List.of("과일")));
+        index.remove(2L);
+
+        assertThat(index.filter(null, Map.of(WhiskeyFilterIndex.Dimension.FLAVOR_TAG, List.of("약품")), 0, 10).total()).isZero();
+        assertThat(index.filter(null, Map.of(WhiskeyFilterIndex.Dimension.SUB_CATEGORY, List.of("SHERRY")), 0, 10).ids())
+                .containsExactly(1L);
+    }
+
+    private static Whiskey whiskey(Long id, WhiskeyCategory category, String nation,
+                                   List<WhiskeySubCategory> subCategories, List<String> flavorTags) {
+        return Whiskey.builder()
+                .id(id)
+                .name("위스키 " + id)
+                .brand("브랜드")
+                .category(category)
+                .nation(nation)
+                .subCategories(subCategories)
+                .flavorTags(flavorTags)
+                .build();
+    }
+}
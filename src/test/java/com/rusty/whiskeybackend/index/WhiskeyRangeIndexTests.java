@@ -0,0 +1,86 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhiskeyRangeIndexTests {
+
+    private WhiskeyRangeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WhiskeyRangeIndex();
+        index.upsert(whiskey(1L, WhiskeyCategory.SINGLE_MALT, 40.0, 700.0, 4.0));
+        index.upsert(whiskey(2L, WhiskeyCategory.SINGLE_MALT, 46.0, 700.0, 4.5));
+        index.upsert(whiskey(3L, WhiskeyCategory.BLENDED_MALT, 57.1, 500.0, 4.5));
+        index.upsert(whiskey(4L, WhiskeyCategory.BLENDED_MALT, 43.0, 1000.0, null));
+    }
+
+    @Test
+    void intersectsRangesInclusive() {
+        assertThat(index.filter(null, Map.of(
+                WhiskeyRangeIndex.Attribute.ABV, new WhiskeyRangeIndex.Range(43.0, 57.1))))
+                .containsExactlyInAnyOrder(2L, 3L, 4L);
+
+        assertThat(index.filter(null, Map.of(
+                WhiskeyRangeIndex.Attribute.ABV, new WhiskeyRangeIndex.Range(43.0, null),
+                WhiskeyRangeIndex.Attribute.STAR_POINT, new WhiskeyRangeIndex.Range(4.5, null),
+                WhiskeyRangeIndex.Attribute.VOLUME, new WhiskeyRangeIndex.Range(null, 700.0))))
+                .containsExactlyInAnyOrder(2L, 3L);
+
+        assertThat(index.filter(List.of(1L, 2L), Map.of(
+                WhiskeyRangeIndex.Attribute.VOLUME, new WhiskeyRangeIndex.Range(700.0, 700.0))))
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void returnsTopByStarPointWithoutNulls() {
+        assertThat(index.top(WhiskeyRangeIndex.Attribute.STAR_POINT, null, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(index.top(WhiskeyRangeIndex.Attribute.STAR_POINT, WhiskeyCategory.SINGLE_MALT, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void movesValuesOnUpdateAndRemove() {
+        index.upsert(whiskey(1L, WhiskeyCategory.SINGLE_MALT, 40.0, 700.0, 5.0));
+        index.remove(3L);
+
+        assertThat(index.top(WhiskeyRangeIndex.Attribute.STAR_POINT, null, 2)).containsExactly(1L, 2L);
+        assertThat(index.filter(null, Map.of(
+                WhiskeyRangeIndex.Attribute.ABV, new WhiskeyRangeIndex.Range(50.0, null)))).isEmpty();
+    }
+
+    @Test
+    void batchUpsertMergesIntoSameOrderAsSingleUpserts() {
+        index.upsertAll(List.of(
+                whiskey(5L, WhiskeyCategory.SINGLE_MALT, 48.0, 700.0, 4.8),
+                whiskey(2L, WhiskeyCategory.SINGLE_MALT, 46.0, 750.0, 3.0),
+                whiskey(6L, WhiskeyCategory.BLENDED_MALT, null, 700.0, 4.5)));
+
+        assertThat(index.top(WhiskeyRangeIndex.Attribute.STAR_POINT, null, 10)).containsExactly(5L, 6L, 3L, 1L, 2L);
+        assertThat(index.filter(null, Map.of(
+                WhiskeyRangeIndex.Attribute.VOLUME, new WhiskeyRangeIndex.Range(700.0, 700.0))))
+                .containsExactly(1L, 5L, 6L);
+        assertThat(index.filter(null, Map.of(
+                WhiskeyRangeIndex.Attribute.ABV, new WhiskeyRangeIndex.Range(45.0, null))))
+                .containsExactly(2L, 5L, 3L);
+    }
+
+    private static Whiskey whiskey(Long id, WhiskeyCategory category, Double abv, Double volume, Double starPoint) {
+        return Whiskey.builder()
+                .id(id)
+                .name("위스키 " + id)
+                .brand("브랜드")
+                .category(category)
+                .abv(abv)
+                .volume(volume)
+                .starPoint(starPoint)
+                .build();
+    }
+}
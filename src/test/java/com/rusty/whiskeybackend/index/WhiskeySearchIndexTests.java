@@ -0,0 +1,76 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhiskeySearchIndexTests {
+
+    private WhiskeySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WhiskeySearchIndex();
+        index.upsert(whiskey(1L, "더 글렌리벳 12년", "The Glenlivet 12", "Glenlivet", WhiskeyCategory.SINGLE_MALT));
+        index.upsert(whiskey(2L, "글렌피딕 15년", "Glenfiddich 15", "Glenfiddich", WhiskeyCategory.SINGLE_MALT));
+        index.upsert(whiskey(3L, "조니워커 블랙 라벨", "Johnnie Walker Black", "Johnnie Walker", WhiskeyCategory.BLENDED_MALT));
+    }
+
+    @Test
+    void findsKoreanSubstringRankedByRelevance() {
+        assertThat(index.search("글렌", null)).extracting(WhiskeySearchIndex.Hit::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        assertThat(index.search("johnnie walker", null)).extracting(WhiskeySearchIndex.Hit::id).containsExactly(3L);
+        assertThat(index.search("블랙라벨", null)).extracting(WhiskeySearchIndex.Hit::id).containsExactly(3L);
+    }
+
+    @Test
+    void rejectsBigramFalsePositives() {
+        // "리벳"과 "글렌"의 bigram은 모두 있지만 "글렌리벳"이 아닌 조합
+        assertThat(index.search("피딕리벳", null)).isEmpty();
+    }
+
+    @Test
+    void pagesKeepFullRankingOrderAndTotal() {
+        index.upsert(whiskey(4L, "글렌모렌지 10년", "Glenmorangie 10", "Glenmorangie", WhiskeyCategory.SINGLE_MALT));
+        index.upsert(whiskey(5L, "글렌드로낙 12년", "GlenDronach 12", "GlenDronach", WhiskeyCategory.SINGLE_MALT));
+        List<WhiskeySearchIndex.Hit> all = index.search("글렌", null);
+
+        WhiskeySearchIndex.TopHits second = index.search("글렌", null, 2, 2);
+
+        assertThat(second.total()).isEqualTo(4);
+        assertThat(second.hits()).isEqualTo(all.subList(2, 4));
+        assertThat(index.search("글렌", null, 4, 2).hits()).isEmpty();
+        assertThat(index.newest("글렌", null, hit -> true, 2)).extracting(WhiskeySearchIndex.Hit::id).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void filtersByCategoryAndReflectsUpdates() {
+        assertThat(index.search("1", WhiskeyCategory.BLENDED_MALT)).isEmpty();
+
+        index.upsert(whiskey(2L, "발베니 14년", "Balvenie 14", "Balvenie", WhiskeyCategory.SINGLE_MALT));
+        index.remove(1L);
+
+        assertThat(index.search("글렌", null)).isEmpty();
+        assertThat(index.search("발베", WhiskeyCategory.SINGLE_MALT)).extracting(WhiskeySearchIndex.Hit::id).containsExactly(2L);
+    }
+
+    private static Whiskey whiskey(Long id, String name, String englishName, String brand, WhiskeyCategory category) {
+        return Whiskey.builder()
+                .id(id)
+                .name(name)
+                .englishName(englishName)
+                .brand(brand)
+                .category(category)
+                .createdAt(id)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhiskeySimilarityIndexTests {
+
+    private WhiskeySimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WhiskeySimilarityIndex();
+        index.upsert(whiskey(1L, List.of(WhiskeySubCategory.PEAT), List.of("스모키", "바다", "요오드"), "아일라", 46.0));
+        index.upsert(whiskey(2L, List.of(WhiskeySubCategory.PEAT), List.of("스모키", "바다"), "아일라", 43.0));
+        index.upsert(whiskey(3L, List.of(WhiskeySubCategory.SHERRY), List.of("건포도", "초콜릿"), "스페이사이드", 40.0));
+        index.upsert(whiskey(4L, List.of(WhiskeySubCategory.PEAT, WhiskeySubCategory.SHERRY), List.of("스모키", "건포도"), "하이랜드", 48.0));
+    }
+
+    @Test
+    void ranksByFlavorProfileExcludingItself() {
+        List<WhiskeySimilarityIndex.Neighbor> neighbors = index.similar(1L, 3);
+
+        assertThat(neighbors).extracting(WhiskeySimilarityIndex.Neighbor::id).containsExactly(2L, 4L, 3L);
+        assertThat(neighbors.get(0).score()).isGreaterThan(neighbors.get(1).score());
+    }
+
+    @Test
+    void reflectsUpdatedTagsAndRemovals() {
+        index.upsert(whiskey(3L, List.of(WhiskeySubCategory.PEAT), List.of("스모키", "바다", "요오드"), "아일라", 46.0));
+        index.remove(2L);
+
+        assertThat(index.similar(1L, 1)).extracting(WhiskeySimilarityIndex.Neighbor::id).containsExactly(3L);
+        assertThat(index.similar(2L, 5)).isEmpty();
+        assertThat(index.contains(4L)).isTrue();
+    }
+
+    private static Whiskey whiskey(Long id, List<WhiskeySubCategory> subCategories, List<String> flavorTags,
+                                   String region, Double abv) {
+        return Whiskey.builder()
+                .id(id)
+                .name("위스키 " + id)
+                .brand("브랜드")
+                .category(WhiskeyCategory.SINGLE_MALT)
+                .subCategories(subCategories)
+                .flavorTags(flavorTags)
+                .region(region)
+                .abv(abv)
+                .build();
+    }
+}
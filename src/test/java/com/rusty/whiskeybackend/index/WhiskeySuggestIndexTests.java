@@ -0,0 +1,121 @@
+package com.rusty.whiskeybackend.index;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhiskeySuggestIndexTests {
+
+    private WhiskeySuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new WhiskeySuggestIndex();
+        index.upsert(whiskey(1L, "더 글렌리벳 12년", "The Glenlivet 12", "Glenlivet", 4.0));
+        index.upsert(whiskey(2L, "글렌피딕 15년", "Glenfiddich 15", "Glenfiddich", 4.5));
+        index.upsert(whiskey(3L, "라프로익 10년", "Laphroaig 10", "Laphroaig", 4.5));
+    }
+
+    @Test
+    void matchesPartialSyllable() {
+        assertThat(index.suggest("글레", 10)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(2L, 1L);
+        assertThat(index.suggest("라픟", 10)).isEmpty();
+        assertThat(index.suggest("랖", 10)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(3L);
+    }
+
+    @Test
+    void matchesChosung() {
+        assertThat(index.suggest("ㄱㄹㄹㅂ", 10)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(1L);
+        assertThat(index.suggest("ㄹㅍ", 10)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(3L);
+    }
+
+    @Test
+    void matchesEnglishAndWordStartsWithLimit() {
+        assertThat(index.suggest("glen", 1)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(2L);
+        assertThat(index.suggest("12", 10)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(1L);
+    }
+
+    @Test
+    void shortPrefixRanksWholeRangeNotOnlyEarlyKeys() {
+        // "가나..." 키 600개가 "기린"보다 사전순으로 앞서지만 별점은 기린이 가장 높음
+        for (long id = 100; id < 700; id++) {
+            index.upsert(whiskey(id, "가나 " + id, "Gana " + id, "Gana", 3.0));
+        }
+        index.upsert(whiskey(9L, "기린 21년", "Kirin 21", "Kirin", 5.0));
+
+        assertThat(index.suggest("ㄱ", 1)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(9L);
+
+        // 유지 중인 상위 목록도 등록/삭제를 반영
+        index.upsert(whiskey(10L, "기린 25년", "Kirin 25", "Kirin", 5.0));
+        assertThat(index.suggest("ㄱ", 2)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(9L, 10L);
+        index.remove(9L);
+        index.remove(10L);
+        assertThat(index.suggest("ㄱ", 20)).hasSize(20)
+                .extracting(WhiskeySuggestIndex.Suggestion::id).startsWith(2L).doesNotContain(9L, 10L);
+    }
+
+    @Test
+    void refillsHeadAfterRemovingItsTopEntries() {
+        for (long id = 100; id < 200; id++) {
+            index.upsert(whiskey(id, "가나 " + id, "Gana " + id, "Gana", 3.0));
+        }
+        for (long id = 1000; id < 1050; id++) {
+            index.upsert(whiskey(id, "기린 " + id, "Kirin " + id, "Kirin", 5.0));
+        }
+        for (long id = 1000; id < 1050; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.suggest("ㄱ", 20)).hasSize(20)
+                .extracting(WhiskeySuggestIndex.Suggestion::id).startsWith(2L).allMatch(id -> id < 1000);
+        assertThat(index.suggest("ㅎ", 20)).isEmpty();
+    }
+
+    @Test
+    void batchUpsertSuggestsSameAsSingleUpserts() {
+        List<Whiskey> batch = new ArrayList<>();
+        for (long id = 100; id < 160; id++) {
+            batch.add(whiskey(id, (id % 2 == 0 ? "가나 " : "기린 ") + id, "Gana " + id, "Gana", id % 5));
+        }
+        // 배치 안에서 기존 문서를 갱신하고 같은 id가 두 번 오면 마지막 값이 남음
+        batch.add(whiskey(2L, "발베니 14년", "Balvenie 14", "Balvenie", 4.5));
+        batch.add(whiskey(100L, "가나 최종", "Gana final", "Gana", 5.0));
+        WhiskeySuggestIndex single = new WhiskeySuggestIndex();
+        single.upsert(whiskey(1L, "더 글렌리벳 12년", "The Glenlivet 12", "Glenlivet", 4.0));
+        single.upsert(whiskey(3L, "라프로익 10년", "Laphroaig 10", "Laphroaig", 4.5));
+        batch.forEach(single::upsert);
+
+        index.upsertAll(batch);
+
+        for (String query : List.of("ㄱ", "ㄱㄴ", "가나", "기린 1", "ㅂㅂㄴ", "글렌", "gana", "1")) {
+            assertThat(index.suggest(query, 20)).as(query).isEqualTo(single.suggest(query, 20));
+        }
+        assertThat(index.suggest("가나 최", 10)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(100L);
+    }
+
+    @Test
+    void reflectsUpdatesAndRemovals() {
+        index.upsert(whiskey(2L, "발베니 14년", "Balvenie 14", "Balvenie", 4.5));
+        index.remove(1L);
+
+        assertThat(index.suggest("글", 10)).isEmpty();
+        assertThat(index.suggest("ㅂㅂㄴ", 10)).extracting(WhiskeySuggestIndex.Suggestion::id).containsExactly(2L);
+    }
+
+    private static Whiskey whiskey(Long id, String name, String englishName, String brand, double starPoint) {
+        return Whiskey.builder()
+                .id(id)
+                .name(name)
+                .englishName(englishName)
+                .brand(brand)
+                .category(WhiskeyCategory.SINGLE_MALT)
+                .starPoint(starPoint)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.rusty.whiskeybackend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTests {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final SingleFlight<String, String> flight = new SingleFlight<>(generation::get, Duration.ofSeconds(5));
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    void concurrentCallsShareOneLoad() throws Exception {
+        Future<String> leader = call(flight, blockingLoader("value"));
+        awaitLoads(1);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            followers.add(call(flight, blockingLoader("other")));
+        }
+        awaitShared(flight, 10);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void callersAfterANewGenerationDoNotJoinTheOlderLoad() throws Exception {
+        Future<String> stale = call(flight, blockingLoader("before write"));
+        awaitLoads(1);
+
+        generation.incrementAndGet();
+        Future<String> fresh = call(flight, blockingLoader("after write"));
+        awaitLoads(2);
+        release.countDown();
+
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before write");
+        assertThat(fresh.get(5, TimeUnit.SECONDS)).isEqualTo("after write");
+        assertThat(flight.sharedLoads()).isZero();
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void failureIsSharedAndTheNextCallLoadsAgain() throws Exception {
+        Future<String> leader = call(flight, () -> {
+            blockingLoader("unused").get();
+            throw new IllegalArgumentException("boom");
+        });
+        awaitLoads(1);
+        Future<String> follower = call(flight, blockingLoader("unused"));
+        awaitShared(flight, 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(flight.load("key", () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    void slowLoadIsNotWaitedForLongerThanMaxWait() throws Exception {
+        SingleFlight<String, String> impatient = new SingleFlight<>(generation::get, Duration.ofMillis(50));
+        Future<String> leader = call(impatient, blockingLoader("slow"));
+        awaitLoads(1);
+
+        assertThat(impatient.load("key", () -> "own")).isEqualTo("own");
+        assertThat(impatient.sharedLoads()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private Future<String> call(SingleFlight<String, String> target, Supplier<String> loader) {
+        return executor.submit(() -> target.load("key", loader));
+    }
+
+    private Supplier<String> blockingLoader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        };
+    }
+
+    @Test
+    void pageQueriesThatSearchAlikeShareOneKey() {
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        assertThat(WhiskeyReadCoalescer.PageQuery.of(null, "Glen Livet", pageable))
+                .isEqualTo(WhiskeyReadCoalescer.PageQuery.of(null, "glen\tlivet", pageable));
+        assertThat(WhiskeyReadCoalescer.PageQuery.of(null, " \u3000", pageable))
+                .isEqualTo(WhiskeyReadCoalescer.PageQuery.of(null, null, pageable));
+    }
+
+    private void awaitLoads(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (loads.get() < expected) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitShared(SingleFlight<?, ?> target, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (target.sharedLoads() < expected) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
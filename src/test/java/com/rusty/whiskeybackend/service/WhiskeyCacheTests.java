@@ -0,0 +1,100 @@
+package com.rusty.whiskeybackend.service;
+
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyRequestDto;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:whiskeydb-cache")
+@ActiveProfiles("cache")
+class WhiskeyCacheTests {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long whiskeyId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        whiskeyId = whiskeyService.create(request("캐시 테스트"), null).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        whiskeyService.delete(whiskeyId);
+    }
+
+    @Test
+    void findByIdIsServedFromSecondLevelCache() {
+        whiskeyService.findById(whiskeyId);
+
+        statistics.clear();
+        WhiskeyResponseDto whiskey = whiskeyService.findById(whiskeyId);
+
+        assertThat(whiskey.getFlavorTags()).containsExactly("스모키");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void updateInvalidatesEntityAndCollections() {
+        whiskeyService.findById(whiskeyId);
+
+        WhiskeyRequestDto changed = request("캐시 테스트 수정");
+        changed.setFlavorTags(List.of("달콤함"));
+        whiskeyService.update(whiskeyId, changed, null);
+
+        WhiskeyResponseDto whiskey = whiskeyService.findById(whiskeyId);
+        assertThat(whiskey.getName()).isEqualTo("캐시 테스트 수정");
+        assertThat(whiskey.getFlavorTags()).containsExactly("달콤함");
+    }
+
+    @Test
+    void categoryPageIsServedFromQueryCacheUntilWrite() {
+        whiskeyService.findAll(WhiskeyCategory.BEER, null, PAGE);
+
+        statistics.clear();
+        whiskeyService.findAll(WhiskeyCategory.BEER, null, PAGE);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+
+        WhiskeyRequestDto moved = request("캐시 테스트");
+        moved.setCategory(WhiskeyCategory.BEER);
+        whiskeyService.update(whiskeyId, moved, null);
+
+        assertThat(whiskeyService.findAll(WhiskeyCategory.BEER, null, PAGE).getContent())
+                .extracting(WhiskeyResponseDto::getId)
+                .contains(whiskeyId);
+    }
+
+    private static WhiskeyRequestDto request(String name) {
+        return WhiskeyRequestDto.builder()
+                .name(name)
+                .brand("테스트")
+                .category(WhiskeyCategory.SINGLE_MALT)
+                .flavorTags(List.of("스모키"))
+                .build();
+    }
+}
@@ -0,0 +1,242 @@
+package com.rusty.whiskeybackend.service;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyBatchDto;
+import com.rusty.whiskeybackend.dto.WhiskeyFacetsDto;
+import com.rusty.whiskeybackend.dto.WhiskeyField;
+import com.rusty.whiskeybackend.dto.WhiskeyFilterDto;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.dto.WhiskeySliceDto;
+import com.rusty.whiskeybackend.index.SearchText;
+import com.rusty.whiskeybackend.index.WhiskeySearchIndex;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WhiskeyServiceTests {
+
+    // 페이지 조회 1 + count 1 + 컬렉션 3
+    private static final long MAX_STATEMENTS_PER_PAGE = 5;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WhiskeyRepository whiskeyRepository;
+
+    @Autowired
+    private WhiskeySearchIndex whiskeySearchIndex;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findAllLoadsCollectionsWithConstantStatements() {
+        assertConstantStatements(null, null, 2, 8);
+    }
+
+    @Test
+    void findByCategoryLoadsCollectionsWithConstantStatements() {
+        assertConstantStatements(WhiskeyCategory.SINGLE_MALT, null, 1, 3);
+    }
+
+    @Test
+    void searchLoadsCollectionsWithConstantStatements() {
+        assertConstantStatements(null, "년", 1, 3);
+    }
+
+    @Test
+    void categoryAndSearchLoadsCollectionsWithConstantStatements() {
+        assertConstantStatements(WhiskeyCategory.SINGLE_MALT, "년", 1, 3);
+    }
+
+    @Test
+    void databaseFallbackSearchesSameFieldsAsIndex() {
+        // 영문명에만 있는 검색어 (공백, 대소문자 무시)
+        List<Long> fromDatabase = whiskeyRepository.searchByText("sherryOAK", PageRequest.of(0, 20))
+                .map(Whiskey::getId).getContent();
+
+        assertThat(fromDatabase).isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(whiskeySearchIndex.matchingIds("sherryOAK", null));
+    }
+
+    @Test
+    void facetsCountSameFilterAsList() {
+        WhiskeyFilterDto filter = WhiskeyFilterDto.builder().flavorTag(List.of("스모키")).build();
+        Page<WhiskeyResponseDto> list = whiskeyService.findAll(null, null, filter, PageRequest.of(0, 20));
+
+        WhiskeyFacetsDto facets = whiskeyService.facets(null, null, filter);
+
+        assertThat(list.getTotalElements()).isPositive();
+        assertThat(facets.getTotal()).isEqualTo(list.getTotalElements());
+        assertThat(facets.getFlavorTags()).containsEntry("스모키", list.getTotalElements());
+        assertThat(facets.getCategories().values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(list.getTotalElements());
+    }
+
+    @Test
+    void scrollWalksWholeCatalogInCreatedAtOrderWithoutCount() {
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = "";
+        do {
+            statistics.clear();
+            WhiskeySliceDto<WhiskeyResponseDto> slice = whiskeyService.scroll(null, null, cursor, 3);
+            // 페이지 조회 1 + 컬렉션 3, count 쿼리 없음
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+            slice.getContent().forEach(dto -> scrolled.add(dto.getId()));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        List<Long> paged = whiskeyService.findAll(null, null,
+                        PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "createdAt", "id")))
+                .map(WhiskeyResponseDto::getId)
+                .getContent();
+        assertThat(scrolled).containsExactlyElementsOf(paged);
+    }
+
+    @Test
+    void findBatchKeepsRequestOrderAndReportsMissingIdsWithConstantStatements() {
+        List<Long> ids = new ArrayList<>(whiskeyService.findAll(null, null, PageRequest.of(0, 8))
+                .map(WhiskeyResponseDto::getId)
+                .getContent());
+        Collections.reverse(ids);
+        List<Long> requested = new ArrayList<>(ids);
+        requested.add(2, -1L);
+        requested.add(ids.get(0));
+
+        statistics.clear();
+        WhiskeyBatchDto batch = whiskeyService.findBatch(requested);
+
+        // 위스키 1 + 컬렉션 3 (요청 개수와 무관)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(batch.getWhiskeys()).extracting(WhiskeyResponseDto::getId).containsExactlyElementsOf(ids);
+        assertThat(batch.getWhiskeys()).allSatisfy(dto -> assertThat(dto.getFlavorTags()).isNotEmpty());
+        assertThat(batch.getMissingIds()).containsExactly(-1L);
+    }
+
+    @Test
+    void summaryFieldsSelectOnlySummaryColumns() {
+        PageRequest pageable = PageRequest.of(0, 8, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        List<Long> ids = whiskeyService.findAll(null, null, pageable).map(WhiskeyResponseDto::getId).getContent();
+
+        statistics.clear();
+        Page<Map<String, Object>> page = whiskeyService.findAll(null, null, null, pageable, WhiskeyField.parse("summary"));
+
+        // 페이지 조회 1 + count 1, 엔티티/컬렉션 로딩 없음
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page.getContent()).extracting(row -> row.get("id")).containsExactlyElementsOf(ids);
+        assertThat(page.getContent()).allSatisfy(row -> assertThat(row.keySet())
+                .containsExactly("id", "name", "brand", "category", "imageDataUrl", "thumbnailUrl", "starPoint"));
+    }
+
+    @Test
+    void indexScrollKeepsPagingWhenRowsVanishBeforeTheyAreRead() {
+        List<Whiskey> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Whiskey whiskey = whiskeyRepository.save(Whiskey.builder()
+                    .name("스크롤사라짐 " + i)
+                    .brand("Scroll")
+                    .category(WhiskeyCategory.SINGLE_MALT)
+                    .build());
+            whiskeySearchIndex.upsert(whiskey);
+            saved.add(whiskey);
+        }
+        // 인덱스 조회 뒤 DB 조회 전에 삭제된 것처럼 인덱스에는 남기고 행만 지움
+        whiskeyRepository.deleteById(saved.get(2).getId());
+        try {
+            WhiskeySliceDto<WhiskeyResponseDto> first = whiskeyService.scroll(null, "스크롤사라짐", null, 1);
+            WhiskeySliceDto<Map<String, Object>> firstFields = whiskeyService.scroll(null, "스크롤사라짐", null, 1,
+                    WhiskeyField.parse("name"));
+
+            assertThat(first.getContent()).isEmpty();
+            assertThat(first.isHasNext()).isTrue();
+            assertThat(firstFields.getContent()).isEmpty();
+            assertThat(firstFields.isHasNext()).isTrue();
+            assertThat(whiskeyService.scroll(null, "스크롤사라짐", first.getNextCursor(), 1).getContent())
+                    .extracting(WhiskeyResponseDto::getId).containsExactly(saved.get(1).getId());
+        } finally {
+            saved.forEach(whiskey -> whiskeySearchIndex.remove(whiskey.getId()));
+            whiskeyRepository.deleteAllById(List.of(saved.get(0).getId(), saved.get(1).getId()));
+        }
+    }
+
+    @Test
+    void databaseSearchIgnoresEveryKindOfWhitespaceLikeTheIndex() {
+        String search = "글렌\t리\u3000벳";
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        assertThat(whiskeyRepository.searchByText(SearchText.normalize(search), pageable).getContent())
+                .extracting(Whiskey::getName).contains("더 글렌리벳 12년");
+        assertThat(whiskeyRepository.findFields(null, search, WhiskeyField.parse("name"), pageable).getContent())
+                .extracting(row -> row.get("name")).contains("더 글렌리벳 12년");
+    }
+
+    @Test
+    void scrollWithFieldsLoadsOnlyRequestedCollection() {
+        Set<WhiskeyField> fields = WhiskeyField.parse("name,flavorTags");
+        List<Object> scrolled = new ArrayList<>();
+        String cursor = "";
+        do {
+            statistics.clear();
+            WhiskeySliceDto<Map<String, Object>> slice = whiskeyService.scroll(null, null, cursor, 3, fields);
+            // 페이지 조회 1 + flavorTags 1
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+            assertThat(slice.getContent()).allSatisfy(row -> {
+                assertThat(row.keySet()).containsExactly("id", "name", "flavorTags");
+                assertThat((List<?>) row.get("flavorTags")).isNotEmpty();
+            });
+            slice.getContent().forEach(row -> scrolled.add(row.get("id")));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        List<Long> paged = whiskeyService.findAll(null, null,
+                        PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "createdAt", "id")))
+                .map(WhiskeyResponseDto::getId)
+                .getContent();
+        assertThat(scrolled).containsExactlyElementsOf(paged);
+    }
+
+    private void assertConstantStatements(WhiskeyCategory category, String search, int smallPage, int largePage) {
+        long small = countStatements(category, search, smallPage);
+        long large = countStatements(category, search, largePage);
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+
+    private long countStatements(WhiskeyCategory category, String search, int size) {
+        statistics.clear();
+        Page<WhiskeyResponseDto> page = whiskeyService.findAll(category, search,
+                PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getFlavorTags()).isNotEmpty());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,132 @@
+package com.rusty.whiskeybackend.sync;
+
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyRequestDto;
+import com.rusty.whiskeybackend.event.WhiskeyChangedEvent;
+import com.rusty.whiskeybackend.event.WhiskeyChangedEvent.ChangeType;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"whiskey.stream.buffer-size=1000", "whiskey.stream.heartbeat=PT1S"})
+class WhiskeyChangeBroadcasterTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WhiskeyChangeBroadcaster whiskeyChangeBroadcaster;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    @Test
+    void coalescesRepeatedChangesPerId() {
+        assertThat(WhiskeyChangeBroadcaster.coalesce(null, ChangeType.UPDATED)).isEqualTo(ChangeType.UPDATED);
+        assertThat(WhiskeyChangeBroadcaster.coalesce(ChangeType.CREATED, ChangeType.UPDATED)).isEqualTo(ChangeType.CREATED);
+        assertThat(WhiskeyChangeBroadcaster.coalesce(ChangeType.CREATED, ChangeType.DELETED)).isEqualTo(ChangeType.DELETED);
+
+        Map<Long, ChangeType> batch = new LinkedHashMap<>();
+        batch.put(3L, ChangeType.UPDATED);
+        batch.put(1L, ChangeType.CREATED);
+        batch.put(2L, ChangeType.UPDATED);
+        assertThat(WhiskeyChangeBroadcaster.group(batch)).containsExactly(
+                new WhiskeyChangeBroadcaster.Message(ChangeType.CREATED, List.of(1L)),
+                new WhiskeyChangeBroadcaster.Message(ChangeType.UPDATED, List.of(3L, 2L)));
+    }
+
+    @Test
+    void pushesCommittedChanges() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<Stream<String>> response = client.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/whiskeys/stream")).build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/event-stream"));
+
+        try (Stream<String> body = response.body()) {
+            Iterator<String> lines = body.iterator();
+            awaitLine(lines, ":connected");
+
+            Long id = whiskeyService.createAll(List.of(WhiskeyRequestDto.builder()
+                    .name("스트림").brand("Stream").category(WhiskeyCategory.BEER).build())).get(0);
+            assertThat(awaitLine(lines, "data:")).isEqualTo("data:{\"type\":\"CREATED\",\"ids\":[" + id + "]}");
+
+            whiskeyService.delete(id);
+            assertThat(awaitLine(lines, "data:")).isEqualTo("data:{\"type\":\"DELETED\",\"ids\":[" + id + "]}");
+        }
+    }
+
+    @Test
+    void disconnectsSubscribersThatStopReading() throws Exception {
+        // 다른 테스트에서 끊은 구독은 다음 keep-alive 전송에 실패하면서 정리됨
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (whiskeyChangeBroadcaster.subscriberCount() > 0) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+
+        try (Socket socket = subscribe()) {
+            while (whiskeyChangeBroadcaster.subscriberCount() == 0) {
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+
+            // 읽지 않는 클라이언트에 계속 보내면 소켓 버퍼가 차서 전송이 멈추고, 합쳐지지 않는 id가 쌓여 버퍼를 넘김
+            long nextId = 1_000_000L;
+            while (whiskeyChangeBroadcaster.subscriberCount() > 0) {
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                whiskeyChangeBroadcaster.onWhiskeyChanged(WhiskeyChangedEvent.updated(
+                        LongStream.range(nextId, nextId + 100).boxed().toList()));
+                nextId += 100;
+            }
+        }
+    }
+
+    private Socket subscribe() throws IOException {
+        Socket socket = new Socket();
+        // 수신 창을 작게 잡아 서버 쪽 전송이 빨리 멈추게 함
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream output = socket.getOutputStream();
+        output.write(("GET /api/whiskeys/stream HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+        socket.setSoTimeout(10_000);
+        return socket;
+    }
+
+    // keep-alive가 1초마다 오므로 줄을 기다리다 멈추지 않음
+    private static String awaitLine(Iterator<String> lines, String prefix) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.startsWith(prefix)) {
+                return line;
+            }
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+        }
+        throw new AssertionError("stream ended before " + prefix);
+    }
+}
@@ -0,0 +1,114 @@
+package com.rusty.whiskeybackend.sync;
+
+import com.rusty.whiskeybackend.domain.Whiskey;
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyChangeToken;
+import com.rusty.whiskeybackend.dto.WhiskeyChangesDto;
+import com.rusty.whiskeybackend.dto.WhiskeyRequestDto;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.event.ImageVariantsCreatedEvent;
+import com.rusty.whiskeybackend.image.ImageStore;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "whiskey.sync.settle-time=PT0S")
+class WhiskeyChangeFeedTests {
+
+    @Autowired
+    private WhiskeyChangeFeed whiskeyChangeFeed;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    @Autowired
+    private WhiskeyRepository whiskeyRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void returnsOnlyChangesAfterTokenIncludingDeletions() throws InterruptedException {
+        String token = drain(null, 500, new ArrayList<>(), new ArrayList<>());
+        Thread.sleep(2);
+
+        List<Long> ids = whiskeyService.createAll(List.of(request("동기화 1"), request("동기화 2"), request("동기화 3")));
+        whiskeyService.update(ids.get(0), request("동기화 1 수정"), null);
+        whiskeyService.delete(ids.get(1));
+
+        List<WhiskeyResponseDto> upserts = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        String next = drain(token, 1, upserts, deletedIds);
+
+        assertThat(upserts).extracting(WhiskeyResponseDto::getId).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+        assertThat(upserts).extracting(WhiskeyResponseDto::getName).contains("동기화 1 수정");
+        assertThat(deletedIds).containsExactly(ids.get(1));
+
+        // 이후 변경이 없으면 빈 응답
+        WhiskeyChangesDto empty = whiskeyChangeFeed.changes(next, 100);
+        assertThat(empty.getUpserts()).isEmpty();
+        assertThat(empty.getDeletedIds()).isEmpty();
+        assertThat(empty.isHasMore()).isFalse();
+
+        whiskeyService.delete(ids.get(0));
+        whiskeyService.delete(ids.get(2));
+    }
+
+    @Test
+    void thumbnailGenerationIsDeliveredAsUpdate() throws InterruptedException {
+        Long id = whiskeyRepository.save(Whiskey.builder()
+                .name("동기화 썸네일")
+                .brand("Sync")
+                .category(WhiskeyCategory.SINGLE_MALT)
+                .imageDataUrl(ImageStore.URL_PREFIX + "feed-" + UUID.randomUUID() + ".png")
+                .build()).getId();
+        String token = drain(null, 500, new ArrayList<>(), new ArrayList<>());
+        Thread.sleep(2);
+
+        eventPublisher.publishEvent(new ImageVariantsCreatedEvent(whiskeyRepository.findById(id).orElseThrow().getImageDataUrl()));
+
+        List<WhiskeyResponseDto> upserts = new ArrayList<>();
+        drain(token, 100, upserts, new ArrayList<>());
+        assertThat(upserts).extracting(WhiskeyResponseDto::getId).containsExactly(id);
+
+        whiskeyService.delete(id);
+    }
+
+    @Test
+    void expiredTokenRestartsFromTheBeginning() {
+        WhiskeyChangesDto changes = whiskeyChangeFeed.changes(new WhiskeyChangeToken(1L, 1L).encode(), 5);
+
+        assertThat(changes.isReset()).isTrue();
+        assertThat(changes.getUpserts()).hasSizeLessThanOrEqualTo(5);
+        assertThat(whiskeyChangeFeed.changes(changes.getNextToken(), 5).isReset()).isFalse();
+    }
+
+    private String drain(String token, int limit, List<WhiskeyResponseDto> upserts, List<Long> deletedIds) {
+        WhiskeyChangesDto changes;
+        do {
+            changes = whiskeyChangeFeed.changes(token, limit);
+            assertThat(changes.getUpserts().size() + changes.getDeletedIds().size()).isLessThanOrEqualTo(limit);
+            upserts.addAll(changes.getUpserts());
+            deletedIds.addAll(changes.getDeletedIds());
+            token = changes.getNextToken();
+        } while (changes.isHasMore());
+        return token;
+    }
+
+    private static WhiskeyRequestDto request(String name) {
+        return WhiskeyRequestDto.builder()
+                .name(name)
+                .brand("Sync")
+                .category(WhiskeyCategory.SINGLE_MALT)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.rusty.whiskeybackend.sync;
+
+import com.rusty.whiskeybackend.event.WhiskeyChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SSE 구독자 부하 테스트 (유휴 구독자 N개 유지 비용과 이벤트 한 건이 모두에게 도착하는 시간)
+ * 기본 빌드에서는 실행하지 않음: mvn test -Dtest=WhiskeyStreamLoadTests -Dbenchmark=true [-Dsubscribers=5000]
+ * 클라이언트 소켓도 같은 JVM에 있으므로 연결당 파일 디스크립터 2개, 힙 수치도 클라이언트 몫을 포함한 상한
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.rusty.whiskeybackend=INFO",
+        "logging.level.org.springframework.web=INFO"
+})
+class WhiskeyStreamLoadTests {
+
+    private static final int SUBSCRIBERS = Integer.getInteger("subscribers", 5_000);
+    private static final int EVENTS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WhiskeyChangeBroadcaster whiskeyChangeBroadcaster;
+
+    @Test
+    void holdsIdleSubscribersAndFansOutEvents() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        AtomicInteger received = new AtomicInteger();
+        List<Socket> sockets = new ArrayList<>(SUBSCRIBERS);
+        long started = System.nanoTime();
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                Socket socket = subscribe();
+                sockets.add(socket);
+                readers.submit(() -> read(socket, received));
+            }
+            awaitSubscribers(SUBSCRIBERS);
+            double connectSeconds = (System.nanoTime() - started) / 1e9;
+
+            memory.gc();
+            long heapAfter = memory.getHeapMemoryUsage().getUsed();
+            int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+            System.out.printf("subscribers: %,d connected in %.2f s, heap +%d MB (%,d bytes each incl. client), platform threads %d -> %d%n",
+                    SUBSCRIBERS, connectSeconds, (heapAfter - heapBefore) >> 20,
+                    (heapAfter - heapBefore) / SUBSCRIBERS, threadsBefore, threadsAfter);
+
+            long[] latencies = new long[EVENTS];
+            for (int event = 0; event < EVENTS; event++) {
+                int target = (event + 1) * SUBSCRIBERS;
+                long sent = System.nanoTime();
+                whiskeyChangeBroadcaster.onWhiskeyChanged(WhiskeyChangedEvent.updated((long) event + 1));
+                while (received.get() < target) {
+                    Thread.sleep(1);
+                }
+                latencies[event] = (System.nanoTime() - sent) / 1_000;
+            }
+            Arrays.sort(latencies);
+            System.out.printf("fan-out to %,d subscribers: p50 %.1f ms, max %.1f ms%n",
+                    SUBSCRIBERS, latencies[EVENTS / 2] / 1000.0, latencies[EVENTS - 1] / 1000.0);
+            assertThat(received.get()).isEqualTo(EVENTS * SUBSCRIBERS);
+
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    private Socket subscribe() throws IOException {
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress("localhost", port));
+        socket.getOutputStream().write(("GET /api/whiskeys/stream HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        return socket;
+    }
+
+    // "event:whiskey" 줄 수만 셈 (청크 경계와 무관하게 이벤트 이름은 한 번에 쓰임)
+    private static void read(Socket socket, AtomicInteger received) {
+        byte[] marker = "event:whiskey".getBytes(StandardCharsets.US_ASCII);
+        byte[] buffer = new byte[4096];
+        try (InputStream input = socket.getInputStream()) {
+            int matched = 0;
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    matched = buffer[i] == marker[matched] ? matched + 1 : (buffer[i] == marker[0] ? 1 : 0);
+                    if (matched == marker.length) {
+                        received.incrementAndGet();
+                        matched = 0;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // 테스트 종료 시 소켓을 닫음
+        }
+    }
+
+    private void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 120_000;
+        while (whiskeyChangeBroadcaster.subscriberCount() < count) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.rusty.whiskeybackend.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyImportResultDto;
+import com.rusty.whiskeybackend.dto.WhiskeyImportRowDto;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class WhiskeyExporterTests {
+
+    @Autowired
+    private WhiskeyExporter whiskeyExporter;
+
+    @Autowired
+    private WhiskeyImporter whiskeyImporter;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    @Autowired
+    private WhiskeyRepository whiskeyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String ndjson = """
+                {"name": "내보내기 1", "brand": "Export", "category": "SINGLE_MALT", "subCategories": ["PEAT"], "flavorTags": ["피트", "스모키, 짭짤함"], "pairings": [{"icon": "🧀", "name": "치즈"}]}
+                {"name": "내보내기 2", "brand": "Export", "category": "BEER", "abv": 5.0}
+                """;
+        collectIds(whiskeyImporter.importJson(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ids.forEach(whiskeyService::delete);
+    }
+
+    @Test
+    void exportsEveryWhiskeyAsNdjson() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = whiskeyExporter.exportNdjson(output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(whiskeyRepository.count());
+        assertThat(lines).hasSize((int) count);
+        assertThat(output.toString(StandardCharsets.UTF_8)).endsWith("\n");
+
+        List<WhiskeyResponseDto> whiskeys = new ArrayList<>();
+        for (String line : lines) {
+            whiskeys.add(objectMapper.readValue(line, WhiskeyResponseDto.class));
+        }
+        assertThat(whiskeys).extracting(WhiskeyResponseDto::getId).isSorted();
+        WhiskeyResponseDto first = whiskeys.stream().filter(w -> w.getId().equals(ids.get(0))).findFirst().orElseThrow();
+        assertThat(first.getSubCategories()).containsExactly(WhiskeySubCategory.PEAT);
+        assertThat(first.getFlavorTags()).containsExactlyInAnyOrder("피트", "스모키, 짭짤함");
+        assertThat(first.getPairings()).hasSize(1);
+    }
+
+    @Test
+    void csvExportCanBeImportedAgain() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = whiskeyExporter.exportCsv(output);
+        WhiskeyImportResultDto reimported = whiskeyImporter.importCsv(new StringReader(output.toString(StandardCharsets.UTF_8)));
+        collectIds(reimported);
+
+        assertThat(reimported.getSucceeded()).isEqualTo(count);
+        WhiskeyResponseDto copy = whiskeyService.findById(reimported.getRows().stream()
+                .filter(row -> row.getId() != null)
+                .map(WhiskeyImportRowDto::getId)
+                .filter(id -> "내보내기 1".equals(whiskeyService.findById(id).getName()))
+                .findFirst()
+                .orElseThrow());
+        assertThat(copy.getFlavorTags()).containsExactlyInAnyOrder("피트", "스모키, 짭짤함");
+        assertThat(copy.getPairings()).extracting("icon", "name").containsExactly(tuple("🧀", "치즈"));
+    }
+
+    private void collectIds(WhiskeyImportResultDto result) {
+        result.getRows().stream().map(WhiskeyImportRowDto::getId).filter(Objects::nonNull).forEach(ids::add);
+    }
+}
@@ -0,0 +1,96 @@
+package com.rusty.whiskeybackend.transfer;
+
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyImportResultDto;
+import com.rusty.whiskeybackend.repository.WhiskeyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 등록/내보내기 벤치마크 (NDJSON 10만 건)
+ * 기본 빌드에서는 실행하지 않음: mvn test -Dtest=WhiskeyImportBenchmarkTests -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.rusty.whiskeybackend=INFO",
+        "logging.level.org.springframework.web=INFO"
+})
+@DirtiesContext
+class WhiskeyImportBenchmarkTests {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private WhiskeyImporter whiskeyImporter;
+
+    @Autowired
+    private WhiskeyExporter whiskeyExporter;
+
+    @Autowired
+    private WhiskeyRepository whiskeyRepository;
+
+    @Test
+    void importHundredThousandRows() throws IOException {
+        byte[] body = ndjson(ROWS);
+        long before = whiskeyRepository.count();
+
+        // 워밍업
+        whiskeyImporter.importJson(new ByteArrayInputStream(ndjson(5_000)));
+
+        long started = System.nanoTime();
+        WhiskeyImportResultDto result = whiskeyImporter.importJson(new ByteArrayInputStream(body));
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        System.out.printf("bulk import: %,d rows in %.2f s (%,.0f rows/s, %.1f MB NDJSON)%n",
+                ROWS, seconds, ROWS / seconds, body.length / (1024.0 * 1024.0));
+        assertThat(result.getSucceeded()).isEqualTo(ROWS);
+        assertThat(whiskeyRepository.count()).isEqualTo(before + 5_000 + ROWS);
+
+        // 방금 등록한 전체를 내보내기 (힙 사용량은 건수와 무관해야 함)
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        started = System.nanoTime();
+        long exported = whiskeyExporter.exportNdjson(OutputStream.nullOutputStream());
+        seconds = (System.nanoTime() - started) / 1e9;
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("export: %,d rows in %.2f s (%,.0f rows/s, heap %d MB -> %d MB before GC)%n",
+                exported, seconds, exported / seconds, heapBefore >> 20, heapAfter >> 20);
+        assertThat(exported).isEqualTo(before + 5_000 + ROWS);
+    }
+
+    private static byte[] ndjson(int rows) {
+        Random random = new Random(42);
+        WhiskeyCategory[] categories = WhiskeyCategory.values();
+        WhiskeySubCategory[] subCategories = WhiskeySubCategory.values();
+        StringBuilder builder = new StringBuilder(rows * 400);
+        for (int i = 0; i < rows; i++) {
+            builder.append("{\"name\":\"벌크 위스키 ").append(i)
+                    .append("\",\"englishName\":\"Bulk Whiskey ").append(i)
+                    .append("\",\"brand\":\"Brand ").append(random.nextInt(500))
+                    .append("\",\"category\":\"").append(categories[random.nextInt(categories.length)])
+                    .append("\",\"subCategories\":[\"").append(subCategories[random.nextInt(subCategories.length)])
+                    .append("\"],\"abv\":").append(40 + random.nextInt(20))
+                    .append(",\"volume\":700,\"nation\":\"스코틀랜드\",\"region\":\"스페이사이드\"")
+                    .append(",\"notes\":\"부드럽고 달콤한 향\",\"starPoint\":").append(random.nextInt(5) + 1)
+                    .append(",\"pairings\":[{\"icon\":\"🧀\",\"name\":\"치즈\"}]")
+                    .append(",\"flavorTags\":[\"바닐라\",\"꿀\",\"태그").append(random.nextInt(100)).append("\"]}\n");
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
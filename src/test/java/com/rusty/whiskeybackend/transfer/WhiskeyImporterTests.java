@@ -0,0 +1,122 @@
+package com.rusty.whiskeybackend.transfer;
+
+import com.rusty.whiskeybackend.domain.WhiskeyCategory;
+import com.rusty.whiskeybackend.domain.WhiskeySubCategory;
+import com.rusty.whiskeybackend.dto.WhiskeyImportResultDto;
+import com.rusty.whiskeybackend.dto.WhiskeyImportRowDto;
+import com.rusty.whiskeybackend.dto.WhiskeyResponseDto;
+import com.rusty.whiskeybackend.service.WhiskeyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "whiskey.bulk.batch-size=2")
+class WhiskeyImporterTests {
+
+    @Autowired
+    private WhiskeyImporter whiskeyImporter;
+
+    @Autowired
+    private WhiskeyService whiskeyService;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        ids.forEach(whiskeyService::delete);
+    }
+
+    @Test
+    void importsJsonArrayAndSkipsInvalidRows() throws IOException {
+        String json = """
+                [
+                  {"name": "벌크 1", "brand": "Bulk", "category": "SINGLE_MALT", "flavorTags": ["피트"]},
+                  {"name": "벌크 2", "brand": "Bulk", "category": "NOT_A_CATEGORY"},
+                  {"name": "", "brand": "Bulk", "category": "BEER"},
+                  {"name": "벌크 4", "brand": "Bulk", "category": "BEER", "abv": 5.0}
+                ]
+                """;
+
+        WhiskeyImportResultDto result = importJson(json);
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getRows()).extracting(WhiskeyImportRowDto::getRow).containsExactly(1, 2, 3, 4);
+        assertThat(result.getRows().get(1).getError()).contains("잘못된 값");
+        assertThat(result.getRows().get(2).getError()).isEqualTo("위스키명은 필수입니다.");
+        WhiskeyResponseDto first = whiskeyService.findById(result.getRows().get(0).getId());
+        assertThat(first.getFlavorTags()).containsExactly("피트");
+    }
+
+    @Test
+    void importsNdjson() throws IOException {
+        String ndjson = """
+                {"name": "NDJSON 1", "brand": "Bulk", "category": "GIN_VODKA"}
+                {"name": "NDJSON 2", "brand": "Bulk", "category": "SAKE_TRADITIONAL"}
+                {"name": "NDJSON 3", "brand": "Bulk", "category": "WINE_LIQUEUR"}
+                """;
+
+        WhiskeyImportResultDto result = importJson(ndjson);
+
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+    }
+
+    @Test
+    void importsCsvWithListColumns() throws IOException {
+        String csv = """
+                name,brand,category,subCategories,abv,flavorTags,pairings
+                CSV 1,Bulk,SINGLE_MALT,PEAT|SHERRY,46.0,"피트|스모키, 짭짤함",🧀:치즈|🍫:초콜릿
+                CSV 2,Bulk,WORLD_WHISKEY,,abc,,
+                """;
+
+        WhiskeyImportResultDto result = whiskeyImporter.importCsv(new StringReader(csv));
+        collectIds(result);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getRows().get(1).getError()).contains("잘못된 값");
+        WhiskeyResponseDto whiskey = whiskeyService.findById(result.getRows().get(0).getId());
+        assertThat(whiskey.getAbv()).isEqualTo(46.0);
+        assertThat(whiskey.getSubCategories()).containsExactlyInAnyOrder(WhiskeySubCategory.PEAT, WhiskeySubCategory.SHERRY);
+        assertThat(whiskey.getFlavorTags()).containsExactlyInAnyOrder("피트", "스모키, 짭짤함");
+        assertThat(whiskey.getPairings()).extracting("icon", "name")
+                .containsExactlyInAnyOrder(tuple("🧀", "치즈"), tuple("🍫", "초콜릿"));
+        assertThat(whiskey.getCategory()).isEqualTo(WhiskeyCategory.SINGLE_MALT);
+    }
+
+    @Test
+    void reportsSyntaxErrorsAndKeepsEarlierRows() throws IOException {
+        String ndjson = """
+                {"name": "구문 1", "brand": "Bulk", "category": "BEER"}
+                {"name": "구문 2", "brand":
+                """;
+
+        WhiskeyImportResultDto result = importJson(ndjson);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getRows().get(1).getError()).startsWith("본문을 읽을 수 없습니다");
+    }
+
+    private WhiskeyImportResultDto importJson(String body) throws IOException {
+        WhiskeyImportResultDto result = whiskeyImporter.importJson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        collectIds(result);
+        return result;
+    }
+
+    private void collectIds(WhiskeyImportResultDto result) {
+        result.getRows().stream().map(WhiskeyImportRowDto::getId).filter(Objects::nonNull).forEach(ids::add);
+    }
+}